@@ -40,6 +40,8 @@ public class Game implements Initializable {
     private Vertex<Pipe> sourceVertex;
     private Vertex<Pipe> drainVertex;
     private iGraph<Pipe> graph;
+    // the board with every open cell connected, its neighbors are computed so it keeps no edges
+    private GridGraph<Pipe> boardGrid;
     private boolean handleGridClickEnabled = true;
     private int currentImageIndex = 1;
     private boolean[][] blockedCells;
@@ -59,7 +61,9 @@ public class Game implements Initializable {
         if (selectedGraphMode == 1) {
             graph = new AdjacencyListGraph<>();
         } else if (selectedGraphMode == 2) {
-            graph = new AdjacencyMatrixGraph<>();
+            // every pipe connection has weight 1, so one bit per cell is enough, and a cell has at most 4 neighbors
+            // so the neighbor index keeps traversals from scanning whole rows
+            graph = new AdjacencyMatrixGraph<>(board.getRowCount() * board.getColumnCount(), MatrixStorage.BITS, true);
         }
         initializeGame();
         board.setOnMouseClicked(this::handleGridClick);
@@ -70,11 +74,9 @@ public class Game implements Initializable {
         Platform.runLater(() -> {
             initializeGraph();
             addSourceAndDrainVertex();
-            buildGraphWithoutPipes();
-            if (path().contains(drainVertex)) {
+            if (boardGrid.isReachable(gridVertex(sourceVertex), gridVertex(drainVertex))) {
                 startTime = Calendar.getInstance();
                 paintFountainAndDraw();
-                graph.removeAllEdges();
             } else {
                 MainMenu.showAlert(Alert.AlertType.WARNING,"Warning","Game without solution","Sorry, the generated game has no solution. Please try again.");
                 MainMenu.hideWindow((Stage)vText.getScene().getWindow());
@@ -102,6 +104,8 @@ public class Game implements Initializable {
     }
 
     private void initializeGraph() {
+        int columns = board.getColumnCount();
+        boardGrid = new GridGraph<>(board.getRowCount(), columns, cell -> new Pipe(-1, cell / columns, cell % columns));
         for (int row = 0; row < board.getRowCount(); row++) {
             for (int col = 0; col < board.getColumnCount(); col++) {
                 boolean isBlocked = blockedCells[row][col];
@@ -109,6 +113,7 @@ public class Game implements Initializable {
                     Vertex<Pipe> vertex = new Vertex<>(new Pipe(-1, row, col));
                     graph.addVertex(vertex);
                 } else {
+                    boardGrid.setBlocked(row, col, true);
                     Rectangle rectangle = new Rectangle(board.getWidth() / board.getColumnCount(), board.getHeight() / board.getRowCount());
                     rectangle.setFill(Color.BLACK);
                     board.add(rectangle, col, row);
@@ -288,7 +293,6 @@ public class Game implements Initializable {
             ArrayList<Vertex<Pipe>> myPath = path();
             int myPathSize = myPath.size();
             deleteCurrentPipes();
-            buildGraphWithoutPipes();
             highlightPath(myPath, Color.AQUA);
             int shortestPathSize = shortestPath().size();
             if (myPathSize == shortestPathSize){
@@ -309,8 +313,8 @@ public class Game implements Initializable {
     private boolean validatePath(){
         if (validateSourceAndDrain()){
             connectVerticesWithPipes();
-            if (path().contains(drainVertex)){
-                return validatePipeConnections(path());
+            if (graph.isReachable(sourceVertex, drainVertex)){
+                return validatePipeConnections(sourceVertex);
             }
         }
         return false;
@@ -328,9 +332,9 @@ public class Game implements Initializable {
         }
     }
 
-    private boolean validatePipeConnections(ArrayList<Vertex<Pipe>> path) {
+    private boolean validatePipeConnections(Vertex<Pipe> startVertex) {
         ArrayList<Vertex<Pipe>> covered = new ArrayList<>();
-        Vertex<Pipe> currentVertex = path.get(0);
+        Vertex<Pipe> currentVertex = startVertex;
         while (currentVertex != drainVertex){
             Vertex<Pipe> nextVertex = null;
             for (Vertex<Pipe> neighbor : currentVertex.getNeighbors()) {
@@ -416,7 +420,6 @@ public class Game implements Initializable {
         Optional<ButtonType> result = MainMenu.showAlert(Alert.AlertType.CONFIRMATION, "Confirmation", "Are you sure you want to give up?", null);
         if (result.isPresent() && result.get() == ButtonType.OK) {
             deleteCurrentPipes();
-            buildGraphWithoutPipes();
             highlightPath(shortestPath(), Color.YELLOW);
             validateButton.setDisable(true);
             resetButton.setDisable(true);
@@ -426,18 +429,11 @@ public class Game implements Initializable {
     }
 
     private ArrayList<Vertex<Pipe>> shortestPath(){
-        return graph.dijkstra(sourceVertex,drainVertex);
+        return boardGrid.aStar(gridVertex(sourceVertex), gridVertex(drainVertex), new ManhattanHeuristic());
     }
 
-    private void buildGraphWithoutPipes() {
-        for (int row = 0; row < board.getRowCount(); row++) {
-            for (int col = 0; col < board.getColumnCount(); col++) {
-                Vertex<Pipe> currentVertex = getVertexFromCell(row, col);
-                if (currentVertex != null){
-                    connectWithNeighbors(currentVertex);
-                }
-            }
-        }
+    private Vertex<Pipe> gridVertex(Vertex<Pipe> vertex) {
+        return boardGrid.vertexAt(vertex.getData().getRow(), vertex.getData().getCol());
     }
 
     private void highlightPath(ArrayList<Vertex<Pipe>> path, Color color) {
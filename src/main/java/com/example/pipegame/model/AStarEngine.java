@@ -0,0 +1,77 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// A* over dense vertex ids on the indexed heap, ordered by distance + estimate and on ties by the larger
+// distance, so on open grids it follows one path instead of fanning out over every equally good cell
+final class AStarEngine<T> implements NeighborVisitor {
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private final SearchResult<T> result;
+    private final Heuristic<T> heuristic;
+    private final Vertex<T> target;
+    private final IndexedDaryHeap heap;
+    // estimates are computed once per vertex
+    private final int[] estimates;
+    private int current;
+
+    private AStarEngine(SearchResult<T> result, Heuristic<T> heuristic, Vertex<T> target) {
+        this.result = result;
+        this.heuristic = heuristic;
+        this.target = target;
+        heap = new IndexedDaryHeap(result.distance.length);
+        estimates = new int[result.distance.length];
+        Arrays.fill(estimates, UNKNOWN);
+    }
+
+    static <T> SearchResult<T> run(SearchResult<T> result, WeightedAdjacency graph, int source, int target, Heuristic<T> heuristic) {
+        if (heuristic == null) {
+            throw new IllegalArgumentException("The heuristic cannot be null.");
+        }
+        if (source != -1 && target != -1) {
+            new AStarEngine<>(result, heuristic, result.vertexAt(target)).search(graph, source, target);
+        }
+        return result;
+    }
+
+    private void search(WeightedAdjacency graph, int source, int target) {
+        result.distance[source] = 0;
+        result.color[source] = Color.GRAY;
+        heap.insertOrDecrease(source, key(source));
+
+        while (!heap.isEmpty()) {
+            current = heap.poll();
+            result.color[current] = Color.BLACK;
+            // a vertex reopened by an inconsistent heuristic shows up once per expansion
+            result.order.add(result.vertexAt(current));
+            if (current == target) {
+                break; // break the loop if the target vertex is reached
+            }
+            graph.forEachNeighbor(current, this);
+        }
+    }
+
+    @Override
+    public void visit(int neighbor, int weight) {
+        int newDistance = result.distance[current] + weight;
+        if (newDistance < result.distance[neighbor]) {
+            // a closed vertex is only improved when the heuristic is not consistent, it is then expanded again
+            result.distance[neighbor] = newDistance;
+            result.predecessor[neighbor] = current;
+            result.color[neighbor] = Color.GRAY;
+            heap.insertOrDecrease(neighbor, key(neighbor));
+        }
+    }
+
+    // (distance + estimate) in the high half, larger distances first in the low half
+    private long key(int vertex) {
+        if (estimates[vertex] == UNKNOWN) {
+            estimates[vertex] = heuristic.estimate(result.vertexAt(vertex), target);
+        }
+        int distance = result.distance[vertex];
+        long f = (long) distance + estimates[vertex];
+        long clamped = Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, f));
+        return (clamped << 32) | ((Integer.MAX_VALUE - (long) distance) & 0xFFFFFFFFL);
+    }
+}
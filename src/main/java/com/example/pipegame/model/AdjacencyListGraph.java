@@ -4,295 +4,377 @@ import java.util.*;
 
 public class AdjacencyListGraph<T> implements iGraph<T> {
 
+    // the id of a vertex is its position in this list
     private ArrayList<Vertex<T>> vertices;
-    private ArrayList<Edge<T>> edges;
-    private int time;
+    private DataIndex<T> verticesByData;
+    private LinkedHashSet<Edge<T>> edges;
+    // edges indexed by the unordered pair of endpoint ids, see edgeKey
+    private HashMap<Long, Edge<T>> edgeIndex;
+    // bounds on the edge weights, only reset when all edges go, used to pick the shortest path algorithm
+    private int minWeight;
+    private int maxWeight;
 
     public AdjacencyListGraph(){
-        edges = new ArrayList<>();
+        edges = new LinkedHashSet<>();
+        edgeIndex = new HashMap<>();
         vertices = new ArrayList<>();
-        time = 0;
+        verticesByData = new DataIndex<>(vertices);
+        minWeight = Integer.MAX_VALUE;
+        maxWeight = Integer.MIN_VALUE;
     }
 
     @Override
     public void addVertex(Vertex<T> vertex) {
+        vertex.setId(vertices.size());
         vertices.add(vertex);
+        verticesByData.add(vertex);
     }
 
     @Override
     public Vertex<T> findVertex(T data) {
-        for (Vertex<T> vertex : vertices) {
-            if (vertex.getData().equals(data)) {
-                return vertex;
-            }
+        return verticesByData.get(data);
+    }
+
+    private boolean contains(Vertex<T> vertex) {
+        if (vertex == null) {
+            return false;
         }
-        return null;
+        int id = vertex.getId();
+        return id >= 0 && id < vertices.size() && vertices.get(id) == vertex;
     }
 
     @Override
     public void removeVertex(Vertex<T> vertex) {
-        if (!vertices.contains(vertex)) {
+        if (!contains(vertex)) {
             throw new IllegalArgumentException("The vertex is not in the graph.");
         }
-        // delete the vertex and all associated edges
-        vertices.remove(vertex);
-        edges.removeIf(edge -> edge.getSource().equals(vertex) || edge.getDestination().equals(vertex));
-        for (Vertex<T> v : vertices) {
-            v.removeNeighbor(vertex);
+        // delete the vertex and all associated edges, touching only its own neighborhood
+        for (Edge<T> edge : vertex.getIncidentEdges()) {
+            Vertex<T> other = edge.getOpposite(vertex);
+            if (other != vertex) {
+                other.removeIncidentEdge(edge);
+                other.removeNeighbor(vertex);
+            }
+            edgeIndex.remove(edgeKey(vertex, other), edge);
+            edges.remove(edge);
+        }
+        vertex.getIncidentEdges().clear();
+        vertex.getNeighbors().clear();
+
+        // keep the ids dense by moving the last vertex into the freed position
+        int id = vertex.getId();
+        Vertex<T> last = vertices.remove(vertices.size() - 1);
+        if (last != vertex) {
+            vertices.set(id, last);
+            changeId(last, id);
+        }
+        verticesByData.remove(vertex);
+        vertex.setId(-1);
+    }
+
+    private void changeId(Vertex<T> vertex, int newId) {
+        // the edge keys embed the id, so the vertex's own edges are re-indexed
+        List<Edge<T>> indexed = new ArrayList<>();
+        for (Edge<T> edge : vertex.getIncidentEdges()) {
+            if (edgeIndex.remove(edgeKey(vertex, edge.getOpposite(vertex)), edge)) {
+                indexed.add(edge);
+            }
+        }
+        vertex.setId(newId);
+        for (Edge<T> edge : indexed) {
+            edgeIndex.put(edgeKey(vertex, edge.getOpposite(vertex)), edge);
         }
     }
 
     @Override
     public void addEdge(Vertex<T> source, Vertex<T> destination, int weight) {
-        if (!vertices.contains(source) || !vertices.contains(destination)) {
+        if (!contains(source) || !contains(destination)) {
             throw new IllegalArgumentException("The vertices must be in the graph.");
         }
         source.addNeighbor(destination);
         destination.addNeighbor(source);
         Edge<T> edge = new Edge<>(source, destination, weight);
+        source.addIncidentEdge(edge);
+        if (destination != source) {
+            destination.addIncidentEdge(edge);
+        }
         edges.add(edge);
+        // with parallel edges findEdge keeps returning the first one
+        edgeIndex.putIfAbsent(edgeKey(source, destination), edge);
+        minWeight = Math.min(minWeight, weight);
+        maxWeight = Math.max(maxWeight, weight);
     }
 
     @Override
     public void removeEdge(Vertex<T> source, Vertex<T> destination) {
-        if (!vertices.contains(source) || !vertices.contains(destination)) {
+        if (!contains(source) || !contains(destination)) {
             throw new IllegalArgumentException("The vertices must be in the graph.");
         }
         source.removeNeighbor(destination);
         destination.removeNeighbor(source);
         Edge<T> edgeToRemove = findEdge(source, destination);
         if (edgeToRemove != null) {
+            source.removeIncidentEdge(edgeToRemove);
+            destination.removeIncidentEdge(edgeToRemove);
             edges.remove(edgeToRemove);
+            long key = edgeKey(source, destination);
+            edgeIndex.remove(key);
+            // a parallel edge between the same pair takes over the index entry
+            for (Edge<T> edge : source.getIncidentEdges()) {
+                if (edge.getOpposite(source) == destination) {
+                    edgeIndex.put(key, edge);
+                    break;
+                }
+            }
         }
     }
 
     public Edge<T> findEdge(Vertex<T> source, Vertex<T> destination) {
-        for (Edge<T> edge : edges) {
-            if (edge.getSource().equals(source) && edge.getDestination().equals(destination)) {
-                return edge;
-            }
+        Edge<T> edge = edgeIndex.get(edgeKey(source, destination));
+        // ids are only meaningful inside this graph, so check the endpoints of the indexed edge
+        if (edge != null && ((edge.getSource() == source && edge.getDestination() == destination) ||
+                (edge.getSource() == destination && edge.getDestination() == source))) {
+            return edge;
         }
         return null;
     }
 
+    private static long edgeKey(Vertex<?> source, Vertex<?> destination) {
+        // edges are undirected, so the smaller id always goes in the high half
+        int low = Math.min(source.getId(), destination.getId());
+        int high = Math.max(source.getId(), destination.getId());
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
     @Override
     public ArrayList<Vertex<T>> dfs(Vertex<T> source) {
-        ArrayList<Vertex<T>> dfsOrder = new ArrayList<>();
-        if (vertices.size() > 0) {
-            for (Vertex<T> v : vertices) {
-                v.setColor(Color.WHITE);
-            }
-            time = 0;
-            dfs(source, dfsOrder);
+        return dfsSearch(source).getOrder();
+    }
+
+    @Override
+    public SearchResult<T> dfsSearch(Vertex<T> source) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        if (contains(source)) {
+            dfs(source.getId(), result);
         }
-        return dfsOrder;
+        return result;
     }
 
-    private void dfs(Vertex<T> v, ArrayList<Vertex<T>> dfsOrder) {
-        time += 1;
-        v.setDiscoveryTime(time);
-        v.setColor(Color.GRAY);
-        dfsOrder.add(v);
-        for (Vertex<T> u : v.getNeighbors()) {
-            if (u.getColor() == Color.WHITE) {
-                dfs(u, dfsOrder);
+    private void dfs(int sourceIndex, SearchResult<T> result) {
+        // explicit stack instead of recursion, cursor[i] is the next neighbor to look at for the i-th stacked vertex
+        int[] stack = new int[vertices.size()];
+        int[] cursor = new int[vertices.size()];
+        int top = 0;
+        stack[0] = sourceIndex;
+        discover(sourceIndex, result);
+
+        while (top >= 0) {
+            int vIndex = stack[top];
+            ArrayList<Vertex<T>> neighbors = vertices.get(vIndex).getNeighbors();
+            if (cursor[top] < neighbors.size()) {
+                int uIndex = neighbors.get(cursor[top]++).getId();
+                if (result.color[uIndex] == Color.WHITE) {
+                    result.predecessor[uIndex] = vIndex;
+                    discover(uIndex, result);
+                    top++;
+                    stack[top] = uIndex;
+                    cursor[top] = 0;
+                }
+            } else {
+                result.color[vIndex] = Color.BLACK;
+                result.time += 1;
+                result.finishTime[vIndex] = result.time;
+                top--;
             }
         }
-        v.setColor(Color.BLACK);
-        time += 1;
-        v.setFinishTime(time);
+    }
+
+    private void discover(int vIndex, SearchResult<T> result) {
+        result.time += 1;
+        result.discoveryTime[vIndex] = result.time;
+        result.color[vIndex] = Color.GRAY;
+        result.order.add(vertices.get(vIndex));
     }
 
     @Override
     public ArrayList<Vertex<T>> bfs(Vertex<T> source) {
-        ArrayList<Vertex<T>> bfsOrder = new ArrayList<>();
+        return bfsSearch(source).getOrder();
+    }
 
-        for (Vertex<T> u : vertices) {
-            u.setColor(Color.WHITE);
-            u.setDistance(Integer.MAX_VALUE);
-            u.setPredecessor(null);
+    @Override
+    public SearchResult<T> bfsSearch(Vertex<T> source) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        if (!contains(source)) {
+            return result;
         }
 
         // initialization of the source vertex
-        source.setColor(Color.GRAY);
-        source.setDistance(0);
-        source.setPredecessor(null);
+        result.color[source.getId()] = Color.GRAY;
+        result.distance[source.getId()] = 0;
 
         // queue to take the BFS route
-        Queue<Vertex<T>> queue = new LinkedList<>();
+        Queue<Vertex<T>> queue = new ArrayDeque<>();
         queue.offer(source);
 
         while (!queue.isEmpty()) {
             Vertex<T> u = queue.poll();
-            bfsOrder.add(u); // add vertex to BFS result
+            int uIndex = u.getId();
+            result.order.add(u); // add vertex to BFS result
             // iteration over the neighbors of the current vertex.
             for (Vertex<T> v : u.getNeighbors()) {
-                if (v.getColor() == Color.WHITE) {
-                    v.setColor(Color.GRAY);
-                    v.setDistance(u.getDistance() + 1);
-                    v.setPredecessor(u);
+                int vIndex = v.getId();
+                if (result.color[vIndex] == Color.WHITE) {
+                    result.color[vIndex] = Color.GRAY;
+                    result.distance[vIndex] = result.distance[uIndex] + 1;
+                    result.predecessor[vIndex] = uIndex;
                     queue.offer(v);
                 }
             }
-            u.setColor(Color.BLACK);
+            result.color[uIndex] = Color.BLACK;
         }
 
-        return bfsOrder;
+        return result;
     }
 
     @Override
     public ArrayList<Vertex<T>> dijkstra(Vertex<T> source, Vertex<T> destination) {
-        Map<Vertex<T>, Integer> distances = new HashMap<>();
-        Map<Vertex<T>, Vertex<T>> previousVertices = new HashMap<>();
-        Set<Vertex<T>> S = new HashSet<>();
-        PriorityQueue<Vertex<T>> priorityQueue = new PriorityQueue<>(Comparator.comparingInt(distances::get));
-        // initialize distances
-        for (Vertex<T> vertex : vertices) {
-            distances.put(vertex, Integer.MAX_VALUE);
-        }
-        distances.put(source, 0);
-        priorityQueue.add(source);
-
-        while (!priorityQueue.isEmpty()) {
-            Vertex<T> u = priorityQueue.poll();
-            S.add(u);
-            if (u.equals(destination)) {
-                break; // break the loop if the target vertex is reached
-            }
+        return dijkstraSearch(source, destination).pathTo(destination);
+    }
 
-            for (Edge<T> edge : getEdges(u)) {
-                Vertex<T> v = edge.getDestination();
-                int newDistance = distances.get(u) + edge.getWeight();
-                if (!S.contains(v) && newDistance < distances.get(v)) {
-                    distances.put(v, newDistance);
-                    previousVertices.put(v, u);
-                    priorityQueue.add(v);
-                }
-            }
+    @Override
+    public SearchResult<T> dijkstraSearch(Vertex<T> source, Vertex<T> destination) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        if (!contains(source)) {
+            return result;
         }
+        return ShortestPaths.run(result, this::forEachNeighbor, source.getId(), contains(destination) ? destination.getId() : -1,
+                minWeight, maxWeight);
+    }
 
-        // reconstructing the path from the destination to the source
-        ArrayList<Vertex<T>> shortestPath = new ArrayList<>();
-        Vertex<T> currentVertex = destination;
-        while (currentVertex != null) {
-            shortestPath.add(currentVertex);
-            currentVertex = previousVertices.get(currentVertex);
-        }
-        return shortestPath;
+    @Override
+    public ArrayList<Vertex<T>> aStar(Vertex<T> source, Vertex<T> destination, Heuristic<T> heuristic) {
+        return aStarSearch(source, destination, heuristic).pathTo(destination);
     }
 
     @Override
-    public int[][] floydWarshall() {
-        int size = vertices.size();
-        int[][] dist = new int[size][size];
+    public SearchResult<T> aStarSearch(Vertex<T> source, Vertex<T> destination, Heuristic<T> heuristic) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        return AStarEngine.run(result, this::forEachNeighbor, contains(source) ? source.getId() : -1,
+                contains(destination) ? destination.getId() : -1, heuristic);
+    }
 
-        // initialize dist matrix with edge weights
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (i == j) {
-                    dist[i][j] = 0;
-                } else {
-                    Edge<T> edge = findEdge(vertices.get(i), vertices.get(j));
-                    dist[i][j] = (edge != null) ? edge.getWeight() : Integer.MAX_VALUE;
-                }
-            }
-        }
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalBfs(Vertex<T> source, Vertex<T> destination) {
+        return BidirectionalEngine.bfs(this::forEachNeighbor, vertices, contains(source) ? source.getId() : -1, contains(destination) ? destination.getId() : -1, destination);
+    }
 
-        // apply Floyd-Warshall algorithm
-        for (int k = 0; k < size; k++) {
-            for (int i = 0; i < size; i++) {
-                for (int j = 0; j < size; j++) {
-                    if (dist[i][k] != Integer.MAX_VALUE && dist[k][j] != Integer.MAX_VALUE && dist[i][k] + dist[k][j] < dist[i][j]) {
-                        dist[i][j] = dist[i][k] + dist[k][j];
-                    }
-                }
-            }
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalDijkstra(Vertex<T> source, Vertex<T> destination) {
+        if (minWeight < 0) {
+            // the stopping rule needs non-negative weights
+            return dijkstra(source, destination);
         }
-
-        return dist;
+        return BidirectionalEngine.dijkstra(this::forEachNeighbor, vertices, contains(source) ? source.getId() : -1, contains(destination) ? destination.getId() : -1, destination);
     }
 
     @Override
-    public AdjacencyListGraph<T> primAL() {
+    public boolean isReachable(Vertex<T> source, Vertex<T> destination) {
+        return ReachabilityEngine.run(this::forEachNeighbor, vertices.size(), contains(source) ? source.getId() : -1, contains(destination) ? destination.getId() : -1);
+    }
 
-        AdjacencyListGraph<T> mstGraph = new AdjacencyListGraph<>();
-        Set<Vertex<T>> processedVertices = new HashSet<>();
-        PriorityQueue<Edge<T>> minHeap = new PriorityQueue<>(Comparator.comparingInt(Edge::getWeight));
+    @Override
+    public Iterator<Vertex<T>> bfsIterator(Vertex<T> source) {
+        return new BfsIterator<>(this::forEachNeighbor, vertices, contains(source) ? source.getId() : -1);
+    }
 
-        // choose a starting vertex (arbitrarily in this case)
-        Vertex<T> startVertex = vertices.iterator().next();
-        processedVertices.add(startVertex);
+    @Override
+    public Iterator<Vertex<T>> dfsIterator(Vertex<T> source) {
+        return new DfsIterator<>(this::forEachNeighbor, vertices, contains(source) ? source.getId() : -1);
+    }
 
-        // add edges of the starting vertex to the priority queue
-        minHeap.addAll(getEdges(startVertex));
+    // neighbors of the vertex with the given id as (id, weight) pairs, without creating any objects
+    public void forEachNeighbor(int vertex, NeighborVisitor visitor) {
+        if (vertex < 0 || vertex >= vertices.size()) {
+            throw new IllegalArgumentException("The vertex is not in the graph.");
+        }
+        Vertex<T> u = vertices.get(vertex);
+        ArrayList<Edge<T>> incidentEdges = u.getIncidentEdges();
+        for (int i = 0; i < incidentEdges.size(); i++) {
+            Edge<T> edge = incidentEdges.get(i);
+            visitor.visit(edge.getOpposite(u).getId(), edge.getWeight());
+        }
+    }
 
-        while (!minHeap.isEmpty() && processedVertices.size() < vertices.size()) {
-            Edge<T> minEdge = minHeap.poll();
-            Vertex<T> destinationVertex = minEdge.getDestination();
+    @Override
+    public int[][] floydWarshall() {
+        int[][] dist = initialDistances();
+        // apply Floyd-Warshall algorithm tile by tile
+        FloydWarshall.blocked(dist);
+        return dist;
+    }
 
-            if (!processedVertices.contains(destinationVertex)) {
-                processedVertices.add(destinationVertex);
+    @Override
+    public int[][] parallelFloydWarshall(int parallelism) {
+        int[][] dist = initialDistances();
+        FloydWarshall.parallel(dist, parallelism);
+        return dist;
+    }
 
-                // add vertices to the MST
-                Vertex<T> sourceVertexInMST = mstGraph.findVertex(minEdge.getSource().getData());
-                if (sourceVertexInMST == null) {
-                    sourceVertexInMST = new Vertex<>(minEdge.getSource().getData());
-                    mstGraph.addVertex(sourceVertexInMST);
-                }
+    private int[][] initialDistances() {
+        int size = vertices.size();
+        int[][] dist = FloydWarshall.newDistanceMatrix(size);
 
-                Vertex<T> destinationVertexInMST = mstGraph.findVertex(destinationVertex.getData());
-                if (destinationVertexInMST == null) {
-                    destinationVertexInMST = new Vertex<>(destinationVertex.getData());
-                    mstGraph.addVertex(destinationVertexInMST);
+        // initialize dist matrix with edge weights, keeping the lightest of parallel edges
+        for (int i = 0; i < size; i++) {
+            Vertex<T> u = vertices.get(i);
+            for (Edge<T> edge : u.getIncidentEdges()) {
+                int j = edge.getOpposite(u).getId();
+                if (j != i) {
+                    dist[i][j] = Math.min(dist[i][j], edge.getWeight());
                 }
-
-                // Add the edge to the MST
-                mstGraph.addEdge(sourceVertexInMST, destinationVertexInMST, minEdge.getWeight());
-
-                // Add edges of the newly visited vertex to the priority queue
-                minHeap.addAll(getEdges(destinationVertex));
             }
         }
+        return dist;
+    }
 
-        return mstGraph;
+    @Override
+    public AdjacencyListGraph<T> primAL() {
+        return SpanningTrees.prim(this::forEachNeighbor, vertices, new AdjacencyListGraph<>());
     }
 
     @Override
     public AdjacencyListGraph<T> kruskalAL() {
-        AdjacencyListGraph<T> minimumSpanningTree = new AdjacencyListGraph<>();
-        edges.sort(Comparator.comparingInt(Edge::getWeight));
+        return kruskal(new AdjacencyListGraph<>());
+    }
 
-        DisjointSet<T> disjointSet = new DisjointSet<>(vertices);
+    @Override
+    public AdjacencyListGraph<T> parallelKruskalAL(int parallelism) {
+        return SpanningTrees.parallelKruskal(edgeArrays(), vertices, new AdjacencyListGraph<>(), parallelism);
+    }
 
-        for (Vertex<T> vertex : vertices) {
-            minimumSpanningTree.addVertex(new Vertex<>(vertex.getData())); // Use new instances for the MST
-        }
+    private <G extends iGraph<T>> G kruskal(G minimumSpanningTree) {
+        return SpanningTrees.kruskal(edgeArrays(), vertices, minimumSpanningTree);
+    }
 
+    private EdgeArrays edgeArrays() {
+        EdgeArrays arrays = new EdgeArrays(edges.size());
+        int e = 0;
         for (Edge<T> edge : edges) {
-            Vertex<T> sourceVertex = edge.getSource();
-            Vertex<T> destinationVertex = edge.getDestination();
-
-            Vertex<T> sourceVertexInMST = minimumSpanningTree.findVertex(sourceVertex.getData());
-            Vertex<T> destinationVertexInMST = minimumSpanningTree.findVertex(destinationVertex.getData());
-
-            if (sourceVertexInMST != null && destinationVertexInMST != null &&
-                    !disjointSet.find(sourceVertex.getData()).equals(disjointSet.find(destinationVertex.getData()))) {
-                disjointSet.union(sourceVertex.getData(), destinationVertex.getData());
-                minimumSpanningTree.addEdge(sourceVertexInMST, destinationVertexInMST, edge.getWeight());
-            }
+            arrays.sources[e] = edge.getSource().getId();
+            arrays.destinations[e] = edge.getDestination().getId();
+            arrays.weights[e++] = edge.getWeight();
         }
-
-        return minimumSpanningTree;
+        return arrays;
     }
 
     @Override
     public AdjacencyMatrixGraph<T> primAM() {
-        return null;
+        return SpanningTrees.prim(this::forEachNeighbor, vertices, new AdjacencyMatrixGraph<>(vertices.size()));
     }
 
     @Override
     public AdjacencyMatrixGraph<T> kruskalAM() {
-        return null;
+        return kruskal(new AdjacencyMatrixGraph<>(vertices.size()));
     }
 
     @Override
@@ -300,62 +382,30 @@ public class AdjacencyListGraph<T> implements iGraph<T> {
         return vertices;
     }
 
-    public void removeAllEdges() {
-        for (Vertex<T> vertex : vertices) {
-            removeAllEdgesFromVertex(vertex);
-        }
-    }
-
-    private void removeAllEdgesFromVertex(Vertex<T> vertex) {
-        ArrayList<Vertex<T>> neighbors = new ArrayList<>(vertex.getNeighbors());
-        for (Vertex<T> neighbor : neighbors) {
-            removeEdge(vertex, neighbor);
-        }
+    @Override
+    public List<Edge<T>> getAllEdges() {
+        return new ArrayList<>(edges);
     }
 
-    public ArrayList<Edge<T>> getEdges(Vertex<T> vertex) {
-        ArrayList<Edge<T>> vertexEdges = new ArrayList<>();
-        for (Edge<T> edge : edges) {
-            if (edge.getSource().equals(vertex) || edge.getDestination().equals(vertex)) {
-                vertexEdges.add(edge);
-            }
+    public void removeAllEdges() {
+        // every edge is dropped at once, so nothing has to be looked up or unlinked one by one
+        for (Vertex<T> vertex : vertices) {
+            vertex.getNeighbors().clear();
+            vertex.getIncidentEdges().clear();
         }
-        return vertexEdges;
+        edges.clear();
+        edgeIndex.clear();
+        minWeight = Integer.MAX_VALUE;
+        maxWeight = Integer.MIN_VALUE;
     }
 
-    private static class DisjointSet<T> {
-
-        private final Map<T, T> parentMap;
-
-        public DisjointSet(Collection<Vertex<T>> vertices) {
-            parentMap = new HashMap<>();
-            for (Vertex<T> vertex : vertices) {
-                parentMap.put(vertex.getData(), vertex.getData());
-            }
-        }
-
-        public T find(T element) {
-            if (!parentMap.containsKey(element)) {
-                throw new IllegalArgumentException("Element not found in the disjoint set");
-            }
-
-            if (element.equals(parentMap.get(element))) {
-                return element;
-            } else {
-                T root = find(parentMap.get(element));
-                parentMap.put(element, root);
-                return root;
-            }
-        }
-
-        public void union(T set1, T set2) {
-            T root1 = find(set1);
-            T root2 = find(set2);
-
-            if (!root1.equals(root2)) {
-                parentMap.put(root1, root2);
-            }
+    public List<Edge<T>> getEdges(Vertex<T> vertex) {
+        if (!contains(vertex)) {
+            return Collections.emptyList();
         }
+        // each vertex keeps its incident edges, so no scan of the global edge list is needed; read-only,
+        // the edge index relies on that list
+        return Collections.unmodifiableList(vertex.getIncidentEdges());
     }
 
 }
\ No newline at end of file
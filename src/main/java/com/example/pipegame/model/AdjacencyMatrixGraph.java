@@ -4,96 +4,136 @@ import java.util.*;
 
 public class AdjacencyMatrixGraph<T> implements iGraph<T> {
 
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // the id of a vertex is its position in this list and its row in the matrix
     private ArrayList<Vertex<T>> vertices;
-    private int[][] adjacencyMatrix;
-    private int time;
+    private DataIndex<T> verticesByData;
+    // square matrix with room for at least vertices.size() rows, the unused part stays zeroed
+    private WeightMatrix adjacencyMatrix;
+    // bounds on the edge weights, only reset when all edges go, used to pick the shortest path algorithm
+    private int minWeight;
+    private int maxWeight;
 
     public AdjacencyMatrixGraph() {
-        vertices = new ArrayList<>();
-        adjacencyMatrix = new int[0][0];
-        time = 0;
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AdjacencyMatrixGraph(int expectedVertices) {
+        this(expectedVertices, MatrixStorage.ROWS);
+    }
+
+    public AdjacencyMatrixGraph(int expectedVertices, MatrixStorage storage) {
+        this(expectedVertices, storage, false);
+    }
+
+    // with neighborIndex every row also keeps a sorted list of its neighbors, traversals then cost O(V + E)
+    // instead of O(V^2) at the price of slower edge updates
+    public AdjacencyMatrixGraph(int expectedVertices, MatrixStorage storage, boolean neighborIndex) {
+        if (expectedVertices < 0) {
+            throw new IllegalArgumentException("The expected number of vertices cannot be negative.");
+        }
+        vertices = new ArrayList<>(expectedVertices);
+        verticesByData = new DataIndex<>(vertices);
+        adjacencyMatrix = WeightMatrix.create(storage, expectedVertices, neighborIndex);
+        minWeight = Integer.MAX_VALUE;
+        maxWeight = Integer.MIN_VALUE;
     }
 
     @Override
     public void addVertex(Vertex<T> vertex) {
-        vertices.add(vertex);
-        // increase the size of the adjacency matrix
-        int[][] newMatrix = new int[vertices.size()][vertices.size()];
-        for (int i = 0; i < adjacencyMatrix.length; i++) {
-            System.arraycopy(adjacencyMatrix[i], 0, newMatrix[i], 0, adjacencyMatrix[i].length);
+        if (vertices.size() == adjacencyMatrix.capacity()) {
+            // grow geometrically so that adding n vertices copies O(n^2) cells overall
+            adjacencyMatrix.grow(Math.max(2 * adjacencyMatrix.capacity(), DEFAULT_CAPACITY), vertices.size());
         }
-        adjacencyMatrix = newMatrix;
+        vertex.setId(vertices.size());
+        vertices.add(vertex);
+        verticesByData.add(vertex);
     }
 
     @Override
     public Vertex<T> findVertex(T data) {
-        for (Vertex<T> vertex : vertices) {
-            if (vertex.getData().equals(data)) {
-                return vertex;
-            }
+        return verticesByData.get(data);
+    }
+
+    private boolean contains(Vertex<T> vertex) {
+        if (vertex == null) {
+            return false;
         }
-        return null;
+        int id = vertex.getId();
+        return id >= 0 && id < vertices.size() && vertices.get(id) == vertex;
     }
 
     @Override
     public void removeVertex(Vertex<T> vertex) {
-        if (!vertices.contains(vertex)) {
+        if (!contains(vertex)) {
             throw new IllegalArgumentException("The vertex is not in the graph.");
         }
 
-        int vertexIndex = vertices.indexOf(vertex);
-        vertices.remove(vertex);
-
-        // remove the corresponding row and column from the adjacency matrix
-        int[][] newMatrix = new int[vertices.size()][vertices.size()];
-        for (int i = 0, newRow = 0; i < adjacencyMatrix.length; i++) {
-            if (i == vertexIndex) {
-                continue;
+        int vertexIndex = vertex.getId();
+        int lastIndex = vertices.size() - 1;
+        if (vertexIndex != lastIndex) {
+            // move the last vertex, with its row and column, into the freed position
+            Vertex<T> last = vertices.get(lastIndex);
+            vertices.set(vertexIndex, last);
+            last.setId(vertexIndex);
+            for (int i = 0; i <= lastIndex; i++) {
+                adjacencyMatrix.set(vertexIndex, i, adjacencyMatrix.get(lastIndex, i));
             }
-            for (int j = 0, newCol = 0; j < adjacencyMatrix[i].length; j++) {
-                if (j != vertexIndex) {
-                    newMatrix[newRow][newCol] = adjacencyMatrix[i][j];
-                    newCol++;
-                }
+            for (int i = 0; i <= lastIndex; i++) {
+                adjacencyMatrix.set(i, vertexIndex, adjacencyMatrix.get(i, lastIndex));
             }
-            newRow++;
         }
+        // clear the last row and column so the capacity stays zeroed
+        for (int i = 0; i <= lastIndex; i++) {
+            adjacencyMatrix.set(lastIndex, i, 0);
+            adjacencyMatrix.set(i, lastIndex, 0);
+        }
+        vertices.remove(lastIndex);
 
-        adjacencyMatrix = newMatrix;
+        verticesByData.remove(vertex);
+        vertex.setId(-1);
     }
 
     @Override
     public void addEdge(Vertex<T> source, Vertex<T> destination, int weight) {
-        if (!vertices.contains(source) || !vertices.contains(destination)) {
+        if (!contains(source) || !contains(destination)) {
             throw new IllegalArgumentException("The vertices must be in the graph.");
         }
 
-        int sourceIndex = vertices.indexOf(source);
-        int destinationIndex = vertices.indexOf(destination);
+        int sourceIndex = source.getId();
+        int destinationIndex = destination.getId();
 
-        adjacencyMatrix[sourceIndex][destinationIndex] = weight;
-        adjacencyMatrix[destinationIndex][sourceIndex] = weight;
+        adjacencyMatrix.set(sourceIndex, destinationIndex, weight);
+        adjacencyMatrix.set(destinationIndex, sourceIndex, weight);
+        if (weight != 0) {
+            minWeight = Math.min(minWeight, weight);
+            maxWeight = Math.max(maxWeight, weight);
+        }
     }
 
     @Override
     public void removeEdge(Vertex<T> source, Vertex<T> destination) {
-        if (!vertices.contains(source) || !vertices.contains(destination)) {
+        if (!contains(source) || !contains(destination)) {
             throw new IllegalArgumentException("The vertices must be in the graph.");
         }
 
-        int sourceIndex = vertices.indexOf(source);
-        int destinationIndex = vertices.indexOf(destination);
+        int sourceIndex = source.getId();
+        int destinationIndex = destination.getId();
 
-        adjacencyMatrix[sourceIndex][destinationIndex] = 0;
-        adjacencyMatrix[destinationIndex][sourceIndex] = 0;
+        adjacencyMatrix.set(sourceIndex, destinationIndex, 0);
+        adjacencyMatrix.set(destinationIndex, sourceIndex, 0);
     }
 
     public Edge<T> findEdge(Vertex<T> source, Vertex<T> destination) {
-        int sourceIndex = vertices.indexOf(source);
-        int destinationIndex = vertices.indexOf(destination);
+        if (!contains(source) || !contains(destination)) {
+            return null;
+        }
+        int sourceIndex = source.getId();
+        int destinationIndex = destination.getId();
 
-        if (sourceIndex != -1 && destinationIndex != -1 && adjacencyMatrix[sourceIndex][destinationIndex] != 0) {
-            int weight = adjacencyMatrix[sourceIndex][destinationIndex];
+        if (adjacencyMatrix.get(sourceIndex, destinationIndex) != 0) {
+            int weight = adjacencyMatrix.get(sourceIndex, destinationIndex);
             return new Edge<>(source, destination, weight);
         }
         return null;
@@ -101,328 +141,320 @@ public class AdjacencyMatrixGraph<T> implements iGraph<T> {
 
     @Override
     public ArrayList<Vertex<T>> dfs(Vertex<T> source) {
-        ArrayList<Vertex<T>> dfsOrder = new ArrayList<>();
-        if (vertices.size() > 0) {
-            for (Vertex<T> v : vertices) {
-                v.setColor(Color.WHITE);
-            }
-            time = 0;
-            dfs(vertices.indexOf(source), dfsOrder);
+        return dfsSearch(source).getOrder();
+    }
+
+    @Override
+    public SearchResult<T> dfsSearch(Vertex<T> source) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        if (contains(source)) {
+            dfs(source.getId(), result);
         }
-        return dfsOrder;
-    }
-
-    private void dfs(int vertexIndex, ArrayList<Vertex<T>> dfsOrder) {
-        time += 1;
-        Vertex<T> v = vertices.get(vertexIndex);
-        v.setDiscoveryTime(time);
-        v.setColor(Color.GRAY);
-        dfsOrder.add(v);
-        for (int uIndex = 0; uIndex < vertices.size(); uIndex++) {
-            if (adjacencyMatrix[vertexIndex][uIndex] != 0 && vertices.get(uIndex).getColor() == Color.WHITE) {
-                dfs(uIndex, dfsOrder);
+        return result;
+    }
+
+    private void dfs(int sourceIndex, SearchResult<T> result) {
+        // explicit stack instead of recursion, cursor[i] is the next column to look at for the i-th stacked vertex
+        int[] stack = new int[vertices.size()];
+        int[] cursor = new int[vertices.size()];
+        int top = 0;
+        stack[0] = sourceIndex;
+        discover(sourceIndex, result);
+
+        while (top >= 0) {
+            int vertexIndex = stack[top];
+            int uIndex = adjacencyMatrix.nextNeighbor(vertexIndex, cursor[top], vertices.size());
+            while (uIndex < vertices.size() && result.color[uIndex] != Color.WHITE) {
+                uIndex = adjacencyMatrix.nextNeighbor(vertexIndex, uIndex + 1, vertices.size());
+            }
+            if (uIndex < vertices.size()) {
+                cursor[top] = uIndex + 1;
+                result.predecessor[uIndex] = vertexIndex;
+                discover(uIndex, result);
+                top++;
+                stack[top] = uIndex;
+                cursor[top] = 0;
+            } else {
+                result.color[vertexIndex] = Color.BLACK;
+                result.time += 1;
+                result.finishTime[vertexIndex] = result.time;
+                top--;
             }
         }
-        v.setColor(Color.BLACK);
-        time += 1;
-        v.setFinishTime(time);
+    }
+
+    private void discover(int vertexIndex, SearchResult<T> result) {
+        result.time += 1;
+        result.discoveryTime[vertexIndex] = result.time;
+        result.color[vertexIndex] = Color.GRAY;
+        result.order.add(vertices.get(vertexIndex));
     }
 
     @Override
     public ArrayList<Vertex<T>> bfs(Vertex<T> source) {
-        ArrayList<Vertex<T>> bfsOrder = new ArrayList<>();
+        return bfsSearch(source).getOrder();
+    }
 
-        for (Vertex<T> u : vertices) {
-            u.setColor(Color.WHITE);
-            u.setDistance(Integer.MAX_VALUE);
-            u.setPredecessor(null);
+    @Override
+    public SearchResult<T> bfsSearch(Vertex<T> source) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        if (!contains(source)) {
+            return result;
         }
 
-        int sourceIndex = vertices.indexOf(source);
+        int sourceIndex = source.getId();
 
         // initialization of the source vertex
-        vertices.get(sourceIndex).setColor(Color.GRAY);
-        vertices.get(sourceIndex).setDistance(0);
-        vertices.get(sourceIndex).setPredecessor(null);
+        result.color[sourceIndex] = Color.GRAY;
+        result.distance[sourceIndex] = 0;
 
         // queue to take the BFS route
-        Queue<Integer> queue = new LinkedList<>();
-        queue.offer(sourceIndex);
+        int[] queue = new int[vertices.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = sourceIndex;
+
+        // with the neighbor index the loop below costs O(V + E), which beats V^2 / 64 words on a sparse board,
+        // so the word-parallel scan is only for bit rows without an index
+        if (adjacencyMatrix instanceof BitWeightMatrix bits) {
+            return bitsetBfs(result, bits, queue);
+        }
 
-        while (!queue.isEmpty()) {
-            int uIndex = queue.poll();
-            Vertex<T> u = vertices.get(uIndex);
-            bfsOrder.add(u); // add vertex to BFS result
+        while (head < tail) {
+            int uIndex = queue[head++];
+            result.order.add(vertices.get(uIndex)); // add vertex to BFS result
             // iteration over the neighbors of the current vertex.
-            for (int vIndex = 0; vIndex < vertices.size(); vIndex++) {
-                if (adjacencyMatrix[uIndex][vIndex] != 0 && vertices.get(vIndex).getColor() == Color.WHITE) {
-                    Vertex<T> v = vertices.get(vIndex);
-                    v.setColor(Color.GRAY);
-                    v.setDistance(u.getDistance() + 1);
-                    v.setPredecessor(u);
-                    queue.offer(vIndex);
+            for (int vIndex = adjacencyMatrix.nextNeighbor(uIndex, 0, vertices.size()); vIndex < vertices.size();
+                 vIndex = adjacencyMatrix.nextNeighbor(uIndex, vIndex + 1, vertices.size())) {
+                if (result.color[vIndex] == Color.WHITE) {
+                    result.color[vIndex] = Color.GRAY;
+                    result.distance[vIndex] = result.distance[uIndex] + 1;
+                    result.predecessor[vIndex] = uIndex;
+                    queue[tail++] = vIndex;
                 }
             }
-            u.setColor(Color.BLACK);
+            result.color[uIndex] = Color.BLACK;
         }
 
-        return bfsOrder;
+        return result;
     }
 
-    @Override
-    public ArrayList<Vertex<T>> dijkstra(Vertex<T> startVertex, Vertex<T> endVertex) {
-        Map<Vertex<T>, Integer> distances = new HashMap<>();
-        Map<Vertex<T>, Vertex<T>> previousVertices = new HashMap<>();
-        Set<Vertex<T>> visitedVertices = new HashSet<>();
-        // initialize distances
-        for (Vertex<T> vertex : vertices) {
-            distances.put(vertex, Integer.MAX_VALUE);
+    // same visiting order as the column scan, but each row is matched 64 columns at a time against the
+    // vertices not seen yet, so a dense graph costs about V^2 / 64 word operations
+    private SearchResult<T> bitsetBfs(SearchResult<T> result, BitWeightMatrix bits, int[] queue) {
+        int size = vertices.size();
+        long[] unvisited = new long[BitWeightMatrix.words(size)];
+        Arrays.fill(unvisited, -1L);
+        if ((size & 63) != 0) {
+            unvisited[unvisited.length - 1] = -1L >>> (64 - (size & 63));
         }
-
-        distances.put(startVertex, 0);
-        PriorityQueue<Vertex<T>> priorityQueue = new PriorityQueue<>(Comparator.comparingInt(distances::get));
-        priorityQueue.add(startVertex);
-
-        while (!priorityQueue.isEmpty()) {
-            Vertex<T> currentVertex = priorityQueue.poll();
-
-            if (currentVertex.equals(endVertex)) {
-                break; // break the loop if the target vertex is reached
-            }
-
-            if (!visitedVertices.contains(currentVertex)) {
-                visitedVertices.add(currentVertex);
-                int currentIndex = vertices.indexOf(currentVertex);
-
-                for (int neighborIndex = 0; neighborIndex < vertices.size(); neighborIndex++) {
-
-                    if (adjacencyMatrix[currentIndex][neighborIndex] != 0) {
-                        Vertex<T> neighborVertex = vertices.get(neighborIndex);
-                        int newDistance = distances.get(currentVertex) + adjacencyMatrix[currentIndex][neighborIndex];
-
-                        if (newDistance < distances.get(neighborVertex)) {
-                            distances.put(neighborVertex, newDistance);
-                            previousVertices.put(neighborVertex, currentVertex);
-                            priorityQueue.add(neighborVertex);
-                            // Remove and re-add the neighbor to update its position in the PriorityQueue
-                            priorityQueue.remove(neighborVertex);
-                            priorityQueue.add(neighborVertex);
-                        }
-                    }
+        unvisited[queue[0] >>> 6] &= ~(1L << queue[0]);
+
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int uIndex = queue[head++];
+            result.order.add(vertices.get(uIndex));
+            long[] row = bits.row(uIndex);
+            for (int word = 0; word < unvisited.length && tail < size; word++) {
+                long found = row[word] & unvisited[word];
+                unvisited[word] &= ~found;
+                while (found != 0) {
+                    int vIndex = (word << 6) + Long.numberOfTrailingZeros(found);
+                    found &= found - 1;
+                    result.color[vIndex] = Color.GRAY;
+                    result.distance[vIndex] = result.distance[uIndex] + 1;
+                    result.predecessor[vIndex] = uIndex;
+                    queue[tail++] = vIndex;
                 }
             }
+            result.color[uIndex] = Color.BLACK;
         }
+        return result;
+    }
 
-        // reconstructing the path from the destination to the source
-        ArrayList<Vertex<T>> shortestPath = new ArrayList<>();
-        Vertex<T> currentVertex = endVertex;
+    @Override
+    public ArrayList<Vertex<T>> dijkstra(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return dijkstraSearch(startVertex, endVertex).pathTo(endVertex);
+    }
 
-        while (currentVertex != null) {
-            shortestPath.add(currentVertex);
-            currentVertex = previousVertices.get(currentVertex);
+    @Override
+    public SearchResult<T> dijkstraSearch(Vertex<T> startVertex, Vertex<T> endVertex) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        if (!contains(startVertex)) {
+            return result;
         }
+        return ShortestPaths.run(result, this::forEachNeighbor, startVertex.getId(), contains(endVertex) ? endVertex.getId() : -1,
+                minWeight, maxWeight);
+    }
 
-        return shortestPath;
+    @Override
+    public ArrayList<Vertex<T>> aStar(Vertex<T> startVertex, Vertex<T> endVertex, Heuristic<T> heuristic) {
+        return aStarSearch(startVertex, endVertex, heuristic).pathTo(endVertex);
     }
 
     @Override
-    public int[][] floydWarshall() {
-        int[][] dist = new int[vertices.size()][vertices.size()];
+    public SearchResult<T> aStarSearch(Vertex<T> startVertex, Vertex<T> endVertex, Heuristic<T> heuristic) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        return AStarEngine.run(result, this::forEachNeighbor, contains(startVertex) ? startVertex.getId() : -1,
+                contains(endVertex) ? endVertex.getId() : -1, heuristic);
+    }
 
-        // initialize dist matrix with edge weights
-        for (int i = 0; i < vertices.size(); i++) {
-            for (int j = 0; j < vertices.size(); j++) {
-                if (i == j) {
-                    dist[i][j] = 0;
-                } else {
-                    Edge<T> edge = findEdge(vertices.get(i), vertices.get(j));
-                    dist[i][j] = (edge != null) ? edge.getWeight() : Integer.MAX_VALUE;
-                }
-            }
-        }
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalBfs(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return BidirectionalEngine.bfs(this::forEachNeighbor, vertices, contains(startVertex) ? startVertex.getId() : -1, contains(endVertex) ? endVertex.getId() : -1, endVertex);
+    }
 
-        // apply Floyd-Warshall algorithm
-        for (int k = 0; k < vertices.size(); k++) {
-            for (int i = 0; i < vertices.size(); i++) {
-                for (int j = 0; j < vertices.size(); j++) {
-                    if (dist[i][j] > (dist[i][k] + dist[k][j]) && dist[k][j] != Integer.MAX_VALUE && dist[i][k] != Integer.MAX_VALUE) {
-                        dist[i][j] = dist[i][k] + dist[k][j];
-                    }
-                }
-            }
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalDijkstra(Vertex<T> startVertex, Vertex<T> endVertex) {
+        if (minWeight < 0) {
+            // the stopping rule needs non-negative weights
+            return dijkstra(startVertex, endVertex);
         }
-
-        return dist;
+        return BidirectionalEngine.dijkstra(this::forEachNeighbor, vertices, contains(startVertex) ? startVertex.getId() : -1, contains(endVertex) ? endVertex.getId() : -1, endVertex);
     }
 
     @Override
-    public AdjacencyListGraph<T> primAL() {
-        return null;
+    public boolean isReachable(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return ReachabilityEngine.run(this::forEachNeighbor, vertices.size(), contains(startVertex) ? startVertex.getId() : -1, contains(endVertex) ? endVertex.getId() : -1);
     }
 
     @Override
-    public AdjacencyListGraph<T> kruskalAL() {
-        return null;
+    public Iterator<Vertex<T>> bfsIterator(Vertex<T> startVertex) {
+        return new BfsIterator<>(this::forEachNeighbor, vertices, contains(startVertex) ? startVertex.getId() : -1);
     }
 
     @Override
-    public AdjacencyMatrixGraph<T> primAM() {
-        AdjacencyMatrixGraph<T> mstGraph = new AdjacencyMatrixGraph<>();
-        Set<Vertex<T>> processedVertices = new HashSet<>();
-        PriorityQueue<Edge<T>> minHeap = new PriorityQueue<>(Comparator.comparingInt(Edge::getWeight));
-
-        // choose a starting vertex (arbitrarily in this case)
-        Vertex<T> startVertex = vertices.iterator().next();
-        processedVertices.add(startVertex);
+    public Iterator<Vertex<T>> dfsIterator(Vertex<T> startVertex) {
+        return new DfsIterator<>(this::forEachNeighbor, vertices, contains(startVertex) ? startVertex.getId() : -1);
+    }
 
-        // add edges of the starting vertex to the priority queue
-        minHeap.addAll(getEdges(startVertex));
+    // neighbors of the vertex with the given id as (id, weight) pairs, without creating any objects
+    public void forEachNeighbor(int vertex, NeighborVisitor visitor) {
+        int size = vertices.size();
+        if (vertex < 0 || vertex >= size) {
+            throw new IllegalArgumentException("The vertex is not in the graph.");
+        }
+        for (int neighbor = adjacencyMatrix.nextNeighbor(vertex, 0, size); neighbor < size;
+             neighbor = adjacencyMatrix.nextNeighbor(vertex, neighbor + 1, size)) {
+            visitor.visit(neighbor, adjacencyMatrix.get(vertex, neighbor));
+        }
+    }
 
-        while (!minHeap.isEmpty() && processedVertices.size() < vertices.size()) {
-            Edge<T> minEdge = minHeap.poll();
-            Vertex<T> destinationVertex = minEdge.getDestination();
+    @Override
+    public int[][] floydWarshall() {
+        int[][] dist = initialDistances();
+        // apply Floyd-Warshall algorithm tile by tile
+        FloydWarshall.blocked(dist);
+        return dist;
+    }
 
-            if (!processedVertices.contains(destinationVertex)) {
-                processedVertices.add(destinationVertex);
+    @Override
+    public int[][] parallelFloydWarshall(int parallelism) {
+        int[][] dist = initialDistances();
+        FloydWarshall.parallel(dist, parallelism);
+        return dist;
+    }
 
-                // add vertices to the MST
-                Vertex<T> sourceVertexInMST = mstGraph.findVertex(minEdge.getSource().getData());
-                if (sourceVertexInMST == null) {
-                    sourceVertexInMST = new Vertex<>(minEdge.getSource().getData());
-                    mstGraph.addVertex(sourceVertexInMST);
-                }
+    private int[][] initialDistances() {
+        int size = vertices.size();
+        int[][] dist = FloydWarshall.newDistanceMatrix(size);
 
-                Vertex<T> destinationVertexInMST = mstGraph.findVertex(destinationVertex.getData());
-                if (destinationVertexInMST == null) {
-                    destinationVertexInMST = new Vertex<>(destinationVertex.getData());
-                    mstGraph.addVertex(destinationVertexInMST);
+        // initialize dist matrix with edge weights
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                int weight = adjacencyMatrix.get(i, j);
+                if (i != j && weight != 0) {
+                    dist[i][j] = weight;
                 }
-
-                // Add the edge to the MST
-                mstGraph.addEdge(sourceVertexInMST, destinationVertexInMST, minEdge.getWeight());
-
-                // Add edges of the newly visited vertex to the priority queue
-                minHeap.addAll(getEdges(destinationVertex));
             }
         }
-        return mstGraph;
+        return dist;
     }
 
     @Override
-    public AdjacencyMatrixGraph<T> kruskalAM() {
-        AdjacencyMatrixGraph<T> minimumSpanningTree = new AdjacencyMatrixGraph<>();
-        List<Edge<T>> allEdges = getAllEdges();
-        allEdges.sort(Comparator.comparingInt(Edge::getWeight));
-
-        DisjointSet<T> disjointSet = new DisjointSet<>(vertices);
-
-        for (Vertex<T> vertex : vertices) {
-            minimumSpanningTree.addVertex(new Vertex<>(vertex.getData()));
-        }
-
-        for (Edge<T> edge : allEdges) {
-            Vertex<T> sourceVertex = edge.getSource();
-            Vertex<T> destinationVertex = edge.getDestination();
-
-            Vertex<T> sourceVertexInMST = minimumSpanningTree.findVertex(sourceVertex.getData());
-            Vertex<T> destinationVertexInMST = minimumSpanningTree.findVertex(destinationVertex.getData());
-
-            if (sourceVertexInMST != null && destinationVertexInMST != null &&
-                    !disjointSet.find(sourceVertex.getData()).equals(disjointSet.find(destinationVertex.getData()))) {
-                disjointSet.union(sourceVertex.getData(), destinationVertex.getData());
-                minimumSpanningTree.addEdge(sourceVertexInMST, destinationVertexInMST, edge.getWeight());
-            }
-        }
+    public AdjacencyListGraph<T> primAL() {
+        return SpanningTrees.prim(this::forEachNeighbor, vertices, new AdjacencyListGraph<>());
+    }
 
-        return minimumSpanningTree;
+    @Override
+    public AdjacencyListGraph<T> kruskalAL() {
+        return kruskal(new AdjacencyListGraph<>());
     }
 
-    public int[][] getAdjacencyMatrix() {
-        return adjacencyMatrix;
+    @Override
+    public AdjacencyMatrixGraph<T> primAM() {
+        return SpanningTrees.prim(this::forEachNeighbor, vertices, new AdjacencyMatrixGraph<>(vertices.size()));
     }
 
     @Override
-    public ArrayList<Vertex<T>> getVertices() {
-        return vertices;
+    public AdjacencyMatrixGraph<T> kruskalAM() {
+        return kruskal(new AdjacencyMatrixGraph<>(vertices.size()));
     }
 
-    public void removeAllEdges() {
-        for (Vertex<T> vertex : vertices) {
-            removeAllEdgesFromVertex(vertex);
-        }
+    @Override
+    public AdjacencyListGraph<T> parallelKruskalAL(int parallelism) {
+        return SpanningTrees.parallelKruskal(edgeArrays(), vertices, new AdjacencyListGraph<>(), parallelism);
     }
 
-    private void removeAllEdgesFromVertex(Vertex<T> vertex) {
-        int vertexIndex = vertices.indexOf(vertex);
-        // clear all edges going to and from the vertex in the adjacency matrix
-        for (int i = 0; i < vertices.size(); i++) {
-            adjacencyMatrix[vertexIndex][i] = 0;
-            adjacencyMatrix[i][vertexIndex] = 0;
-        }
+    private <G extends iGraph<T>> G kruskal(G minimumSpanningTree) {
+        return SpanningTrees.kruskal(edgeArrays(), vertices, minimumSpanningTree);
     }
 
-    private List<Edge<T>> getAllEdges() {
-        List<Edge<T>> allEdges = new ArrayList<>();
-        for (int i = 0; i < adjacencyMatrix.length; i++) {
-            for (int j = i + 1; j < adjacencyMatrix[i].length; j++) {
-                if (adjacencyMatrix[i][j] != 0) {
-                    Vertex<T> source = vertices.get(i);
-                    Vertex<T> destination = vertices.get(j);
-                    int weight = adjacencyMatrix[i][j];
-                    allEdges.add(new Edge<>(source, destination, weight));
-                }
+    // the upper triangle of the matrix, so every edge once
+    private EdgeArrays edgeArrays() {
+        int size = vertices.size();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = adjacencyMatrix.nextNeighbor(i, i + 1, size); j < size; j = adjacencyMatrix.nextNeighbor(i, j + 1, size)) {
+                count++;
             }
         }
-        return allEdges;
-    }
-
-    private ArrayList<Edge<T>> getEdges(Vertex<T> vertex) {
-        ArrayList<Edge<T>> edges = new ArrayList<>();
-        int vertexIndex = vertices.indexOf(vertex);
-
-        for (int i = 0; i < adjacencyMatrix[vertexIndex].length; i++) {
-            if (adjacencyMatrix[vertexIndex][i] > 0) {
-                Vertex<T> adjacentVertex = vertices.get(i);
-                edges.add(new Edge<>(vertex, adjacentVertex, adjacencyMatrix[vertexIndex][i]));
+        EdgeArrays arrays = new EdgeArrays(count);
+        int e = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = adjacencyMatrix.nextNeighbor(i, i + 1, size); j < size; j = adjacencyMatrix.nextNeighbor(i, j + 1, size)) {
+                arrays.sources[e] = i;
+                arrays.destinations[e] = j;
+                arrays.weights[e++] = adjacencyMatrix.get(i, j);
             }
         }
-
-        return edges;
+        return arrays;
     }
 
-    private static class DisjointSet<T> {
-
-        private final Map<T, T> parentMap;
-
-        public DisjointSet(Collection<Vertex<T>> vertices) {
-            parentMap = new HashMap<>();
-            for (Vertex<T> vertex : vertices) {
-                parentMap.put(vertex.getData(), vertex.getData());
+    public int[][] getAdjacencyMatrix() {
+        // copy of the used part of the matrix, without the spare capacity
+        int[][] matrix = new int[vertices.size()][];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = new int[vertices.size()];
+            for (int j = 0; j < matrix.length; j++) {
+                matrix[i][j] = adjacencyMatrix.get(i, j);
             }
         }
+        return matrix;
+    }
 
-        public T find(T element) {
-            if (!parentMap.containsKey(element)) {
-                throw new IllegalArgumentException("Element not found in the disjoint set");
-            }
-
-            if (element.equals(parentMap.get(element))) {
-                return element;
-            } else {
-                T root = find(parentMap.get(element));
-                parentMap.put(element, root);
-                return root;
-            }
-        }
+    @Override
+    public ArrayList<Vertex<T>> getVertices() {
+        return vertices;
+    }
 
-        public void union(T set1, T set2) {
-            T root1 = find(set1);
-            T root2 = find(set2);
+    public void removeAllEdges() {
+        adjacencyMatrix.clear(vertices.size());
+        minWeight = Integer.MAX_VALUE;
+        maxWeight = Integer.MIN_VALUE;
+    }
 
-            if (!root1.equals(root2)) {
-                parentMap.put(root1, root2);
+    @Override
+    public List<Edge<T>> getAllEdges() {
+        List<Edge<T>> allEdges = new ArrayList<>();
+        int size = vertices.size();
+        for (int i = 0; i < size; i++) {
+            for (int j = adjacencyMatrix.nextNeighbor(i, i + 1, size); j < size; j = adjacencyMatrix.nextNeighbor(i, j + 1, size)) {
+                allEdges.add(new Edge<>(vertices.get(i), vertices.get(j), adjacencyMatrix.get(i, j)));
             }
         }
+        return allEdges;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.example.pipegame.model;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// breadth-first order produced on demand: each call to next() expands only the vertex it returns,
+// the graph must not change while the iterator is in use
+final class BfsIterator<T> implements Iterator<Vertex<T>>, NeighborVisitor {
+
+    private final WeightedAdjacency graph;
+    private final List<Vertex<T>> vertices;
+    private final long[] visited;
+    private final int[] queue;
+    private int head;
+    private int tail;
+
+    BfsIterator(WeightedAdjacency graph, List<Vertex<T>> vertices, int source) {
+        this.graph = graph;
+        this.vertices = vertices;
+        visited = new long[(vertices.size() + 63) >>> 6];
+        queue = new int[vertices.size()];
+        if (source != -1) {
+            visit(source, 0);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return head < tail;
+    }
+
+    @Override
+    public Vertex<T> next() {
+        if (head == tail) {
+            throw new NoSuchElementException();
+        }
+        int u = queue[head++];
+        graph.forEachNeighbor(u, this);
+        return vertices.get(u);
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        if ((visited[target >>> 6] & (1L << target)) == 0) {
+            visited[target >>> 6] |= 1L << target;
+            queue[tail++] = target;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.pipegame.model;
+
+// bidirectional BFS counting edges: each round expands one whole level of the smaller frontier, and the
+// first round that closes a path also finds the shortest one, since all its candidates are compared
+final class BidirectionalBfsEngine extends BidirectionalEngine {
+
+    private final int[][] queue;
+    private final int[] head;
+    private final int[] tail;
+
+    BidirectionalBfsEngine(WeightedAdjacency graph, int size) {
+        super(graph, size);
+        queue = new int[2][size];
+        head = new int[2];
+        tail = new int[2];
+    }
+
+    @Override
+    void search(int source, int target) {
+        distance[0][source] = 0;
+        distance[1][target] = 0;
+        if (source == target) {
+            best = 0;
+            meetForward = source;
+            meetBackward = target;
+            return;
+        }
+        queue[0][tail[0]++] = source;
+        queue[1][tail[1]++] = target;
+
+        while (head[0] < tail[0] && head[1] < tail[1]) {
+            side = tail[0] - head[0] <= tail[1] - head[1] ? 0 : 1;
+            int levelEnd = tail[side];
+            while (head[side] < levelEnd) {
+                current = queue[side][head[side]++];
+                graph.forEachNeighbor(current, this);
+            }
+            if (best != Long.MAX_VALUE) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        meet(target, 1);
+        if (distance[side][target] == UNREACHED) {
+            distance[side][target] = distance[side][current] + 1;
+            parent[side][target] = current;
+            queue[side][tail[side]++] = target;
+        }
+    }
+}
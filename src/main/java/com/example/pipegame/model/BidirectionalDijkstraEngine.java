@@ -0,0 +1,55 @@
+package com.example.pipegame.model;
+
+// bidirectional Dijkstra for non-negative weights: always settles the side with the closer top entry and
+// stops once the two top distances add up to at least the best path found, no shorter path can be left
+final class BidirectionalDijkstraEngine extends BidirectionalEngine {
+
+    private final IndexedDaryHeap[] heaps;
+    private final boolean[][] settled;
+
+    BidirectionalDijkstraEngine(WeightedAdjacency graph, int size) {
+        super(graph, size);
+        heaps = new IndexedDaryHeap[]{new IndexedDaryHeap(size), new IndexedDaryHeap(size)};
+        settled = new boolean[2][size];
+    }
+
+    @Override
+    void search(int source, int target) {
+        distance[0][source] = 0;
+        distance[1][target] = 0;
+        if (source == target) {
+            best = 0;
+            meetForward = source;
+            meetBackward = target;
+            return;
+        }
+        heaps[0].insertOrDecrease(source, 0);
+        heaps[1].insertOrDecrease(target, 0);
+
+        while (!heaps[0].isEmpty() && !heaps[1].isEmpty()) {
+            long forwardTop = heaps[0].key(heaps[0].peek());
+            long backwardTop = heaps[1].key(heaps[1].peek());
+            if (forwardTop + backwardTop >= best) {
+                break;
+            }
+            side = forwardTop <= backwardTop ? 0 : 1;
+            current = heaps[side].poll();
+            settled[side][current] = true;
+            graph.forEachNeighbor(current, this);
+        }
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        meet(target, weight);
+        if (settled[side][target]) {
+            return;
+        }
+        int newDistance = distance[side][current] + weight;
+        if (newDistance < distance[side][target]) {
+            distance[side][target] = newDistance;
+            parent[side][target] = current;
+            heaps[side].insertOrDecrease(target, newDistance);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.pipegame.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// point-to-point search grown from both ends at once, side 0 starts at the source and side 1 at the
+// target; the graphs are undirected, so both sides walk the same adjacency
+abstract class BidirectionalEngine implements NeighborVisitor {
+
+    static final int UNREACHED = Integer.MAX_VALUE;
+
+    final WeightedAdjacency graph;
+    final int[][] distance;
+    final int[][] parent;
+    // the side being expanded and the vertex whose neighbors are being visited
+    int side;
+    int current;
+    // length of the best path seen so far and the edge where its two halves meet
+    long best;
+    int meetForward;
+    int meetBackward;
+
+    BidirectionalEngine(WeightedAdjacency graph, int size) {
+        this.graph = graph;
+        distance = new int[2][size];
+        parent = new int[2][size];
+        for (int s = 0; s < 2; s++) {
+            Arrays.fill(distance[s], UNREACHED);
+            Arrays.fill(parent[s], -1);
+        }
+        best = Long.MAX_VALUE;
+    }
+
+    abstract void search(int source, int target);
+
+    // a step from the current vertex to a vertex the other side has reached closes a path
+    void meet(int target, int weight) {
+        int other = distance[1 - side][target];
+        if (other != UNREACHED) {
+            long length = (long) distance[side][current] + weight + other;
+            if (length < best) {
+                best = length;
+                meetForward = side == 0 ? current : target;
+                meetBackward = side == 0 ? target : current;
+            }
+        }
+    }
+
+    // the path from the destination back to the source, or just the destination when they are not connected
+    static <T> ArrayList<Vertex<T>> path(BidirectionalEngine engine, List<Vertex<T>> vertices, int source, int target,
+                                         Vertex<T> destination) {
+        ArrayList<Vertex<T>> path = new ArrayList<>();
+        if (source == -1 || target == -1) {
+            path.add(destination);
+            return path;
+        }
+        engine.search(source, target);
+        if (engine.best == Long.MAX_VALUE) {
+            path.add(destination);
+            return path;
+        }
+        // the backward half runs from the meeting point to the target, so it is collected and reversed
+        ArrayList<Vertex<T>> backward = new ArrayList<>();
+        for (int v = engine.meetBackward; v != -1; v = engine.parent[1][v]) {
+            backward.add(vertices.get(v));
+        }
+        for (int i = backward.size() - 1; i >= 0; i--) {
+            path.add(backward.get(i));
+        }
+        int start = engine.meetForward == engine.meetBackward ? engine.parent[0][engine.meetForward] : engine.meetForward;
+        for (int v = start; v != -1; v = engine.parent[0][v]) {
+            path.add(vertices.get(v));
+        }
+        return path;
+    }
+
+    static <T> ArrayList<Vertex<T>> bfs(WeightedAdjacency graph, List<Vertex<T>> vertices, int source, int target,
+                                        Vertex<T> destination) {
+        return path(new BidirectionalBfsEngine(graph, vertices.size()), vertices, source, target, destination);
+    }
+
+    static <T> ArrayList<Vertex<T>> dijkstra(WeightedAdjacency graph, List<Vertex<T>> vertices, int source, int target,
+                                             Vertex<T> destination) {
+        return path(new BidirectionalDijkstraEngine(graph, vertices.size()), vertices, source, target, destination);
+    }
+}
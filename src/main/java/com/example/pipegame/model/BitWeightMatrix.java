@@ -0,0 +1,76 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// one bit per cell for unweighted graphs, column j of row i is bit j % 64 of rows[i][j / 64]
+final class BitWeightMatrix implements WeightMatrix {
+
+    private long[][] rows;
+
+    BitWeightMatrix(int capacity) {
+        rows = new long[capacity][words(capacity)];
+    }
+
+    static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    @Override
+    public int get(int row, int column) {
+        return (int) (rows[row][column >>> 6] >>> column) & 1;
+    }
+
+    @Override
+    public void set(int row, int column, int weight) {
+        if (weight == 0) {
+            rows[row][column >>> 6] &= ~(1L << column);
+        } else if (weight == 1) {
+            rows[row][column >>> 6] |= 1L << column;
+        } else {
+            throw new IllegalArgumentException("Bit storage only holds edges of weight 1.");
+        }
+    }
+
+    @Override
+    public int nextNeighbor(int row, int from, int size) {
+        long[] words = rows[row];
+        if (from >= size) {
+            return size;
+        }
+        int word = from >>> 6;
+        long bits = words[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word >= words(size)) {
+                return size;
+            }
+            bits = words[word];
+        }
+        return Math.min((word << 6) + Long.numberOfTrailingZeros(bits), size);
+    }
+
+    // the live words of a row, at least words(size) of them
+    long[] row(int row) {
+        return rows[row];
+    }
+
+    @Override
+    public int capacity() {
+        return rows.length;
+    }
+
+    @Override
+    public void clear(int size) {
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(rows[i], 0);
+        }
+    }
+
+    @Override
+    public void grow(int capacity, int size) {
+        long[][] newRows = new long[capacity][];
+        for (int i = 0; i < capacity; i++) {
+            newRows[i] = i < size ? Arrays.copyOf(rows[i], words(capacity)) : new long[words(capacity)];
+        }
+        rows = newRows;
+    }
+}
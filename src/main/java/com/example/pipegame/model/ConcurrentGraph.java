@@ -0,0 +1,212 @@
+package com.example.pipegame.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+// thread-safe view of another graph: mutations take the write lock and queries the read lock, only the
+// short copy of the vertex list first runs without locking and retries under the read lock when a writer got in
+public class ConcurrentGraph<T> implements iGraph<T> {
+
+    private final iGraph<T> graph;
+    private final StampedLock lock;
+
+    // the wrapped graph must only be used through this wrapper from now on
+    public ConcurrentGraph(iGraph<T> graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("The graph cannot be null.");
+        }
+        this.graph = graph;
+        lock = new StampedLock();
+    }
+
+    private <R> R read(Supplier<R> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // only for a copy of a few fields that is cheap to throw away, never for a traversal: an algorithm that
+    // runs over half-written lists and maps can loop or allocate without bound instead of failing fast
+    private <R> R optimisticRead(Supplier<R> copy) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            try {
+                R result = copy.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // a copy that saw a half-applied write can fail, only failures of a valid read count
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(copy);
+    }
+
+    private void write(Runnable mutation) {
+        long stamp = lock.writeLock();
+        try {
+            mutation.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addVertex(Vertex<T> vertex) {
+        write(() -> graph.addVertex(vertex));
+    }
+
+    @Override
+    public Vertex<T> findVertex(T data) {
+        return read(() -> graph.findVertex(data));
+    }
+
+    @Override
+    public void removeVertex(Vertex<T> vertex) {
+        write(() -> graph.removeVertex(vertex));
+    }
+
+    @Override
+    public void addEdge(Vertex<T> source, Vertex<T> destination, int weight) {
+        write(() -> graph.addEdge(source, destination, weight));
+    }
+
+    @Override
+    public void removeEdge(Vertex<T> source, Vertex<T> destination) {
+        write(() -> graph.removeEdge(source, destination));
+    }
+
+    @Override
+    public void removeAllEdges() {
+        write(graph::removeAllEdges);
+    }
+
+    // changing a payload updates the graph's payload index, so vertices of the wrapped graph are only changed through here
+    public void setData(Vertex<T> vertex, T data) {
+        if (vertex == null) {
+            throw new IllegalArgumentException("The vertex cannot be null.");
+        }
+        write(() -> vertex.setData(data));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> dfs(Vertex<T> startVertex) {
+        return read(() -> graph.dfs(startVertex));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bfs(Vertex<T> startVertex) {
+        return read(() -> graph.bfs(startVertex));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> dijkstra(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return read(() -> graph.dijkstra(startVertex, endVertex));
+    }
+
+    @Override
+    public SearchResult<T> dfsSearch(Vertex<T> startVertex) {
+        return read(() -> graph.dfsSearch(startVertex));
+    }
+
+    @Override
+    public SearchResult<T> bfsSearch(Vertex<T> startVertex) {
+        return read(() -> graph.bfsSearch(startVertex));
+    }
+
+    @Override
+    public SearchResult<T> dijkstraSearch(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return read(() -> graph.dijkstraSearch(startVertex, endVertex));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> aStar(Vertex<T> startVertex, Vertex<T> endVertex, Heuristic<T> heuristic) {
+        return read(() -> graph.aStar(startVertex, endVertex, heuristic));
+    }
+
+    @Override
+    public SearchResult<T> aStarSearch(Vertex<T> startVertex, Vertex<T> endVertex, Heuristic<T> heuristic) {
+        return read(() -> graph.aStarSearch(startVertex, endVertex, heuristic));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalBfs(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return read(() -> graph.bidirectionalBfs(startVertex, endVertex));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalDijkstra(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return read(() -> graph.bidirectionalDijkstra(startVertex, endVertex));
+    }
+
+    @Override
+    public boolean isReachable(Vertex<T> startVertex, Vertex<T> endVertex) {
+        return read(() -> graph.isReachable(startVertex, endVertex));
+    }
+
+    // a lazy traversal cannot hold the lock between calls, so these walk the order taken in one read
+    @Override
+    public Iterator<Vertex<T>> bfsIterator(Vertex<T> startVertex) {
+        return bfs(startVertex).iterator();
+    }
+
+    @Override
+    public Iterator<Vertex<T>> dfsIterator(Vertex<T> startVertex) {
+        return dfs(startVertex).iterator();
+    }
+
+    @Override
+    public int[][] floydWarshall() {
+        return read(graph::floydWarshall);
+    }
+
+    @Override
+    public int[][] parallelFloydWarshall(int parallelism) {
+        return read(() -> graph.parallelFloydWarshall(parallelism));
+    }
+
+    @Override
+    public AdjacencyListGraph<T> primAL() {
+        return read(graph::primAL);
+    }
+
+    @Override
+    public AdjacencyListGraph<T> kruskalAL() {
+        return read(graph::kruskalAL);
+    }
+
+    @Override
+    public AdjacencyListGraph<T> parallelKruskalAL(int parallelism) {
+        return read(() -> graph.parallelKruskalAL(parallelism));
+    }
+
+    @Override
+    public AdjacencyMatrixGraph<T> primAM() {
+        return read(graph::primAM);
+    }
+
+    @Override
+    public AdjacencyMatrixGraph<T> kruskalAM() {
+        return read(graph::kruskalAM);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> getVertices() {
+        // a copy, the live list of the wrapped graph would change under the caller
+        return optimisticRead(() -> new ArrayList<>(graph.getVertices()));
+    }
+
+    @Override
+    public List<Edge<T>> getAllEdges() {
+        return read(() -> new ArrayList<>(graph.getAllEdges()));
+    }
+}
@@ -0,0 +1,352 @@
+package com.example.pipegame.model;
+
+import java.util.*;
+
+// frozen snapshot of another graph, adjacency stored in compressed sparse row form:
+// the neighbors of vertex i are targets[offsets[i]] .. targets[offsets[i + 1] - 1]
+public class CsrGraph<T> implements iGraph<T> {
+
+    private final ArrayList<Vertex<T>> vertices;
+    private final Map<Vertex<T>, Integer> indices;
+    // first vertex of each payload, taken when the snapshot is built
+    private final Map<T, Vertex<T>> byData;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int minWeight;
+    private final int maxWeight;
+
+    public CsrGraph(iGraph<T> graph) {
+        vertices = new ArrayList<>(graph.getVertices());
+        int size = vertices.size();
+        indices = new HashMap<>();
+        byData = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            indices.put(vertices.get(i), i);
+            byData.putIfAbsent(vertices.get(i).getData(), vertices.get(i));
+        }
+
+        List<Edge<T>> edges = graph.getAllEdges();
+        int[] sources = new int[edges.size()];
+        int[] destinations = new int[edges.size()];
+
+        // count the degree of every vertex, shifted by one so the prefix sum yields the offsets
+        offsets = new int[size + 1];
+        for (int e = 0; e < edges.size(); e++) {
+            sources[e] = endOf(edges.get(e).getSource());
+            destinations[e] = endOf(edges.get(e).getDestination());
+            offsets[sources[e] + 1]++;
+            if (sources[e] != destinations[e]) {
+                offsets[destinations[e] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        // each undirected edge is stored once per endpoint, in the order the source graph lists them
+        targets = new int[offsets[size]];
+        weights = new int[offsets[size]];
+        int[] next = Arrays.copyOf(offsets, size);
+        for (int e = 0; e < edges.size(); e++) {
+            int weight = edges.get(e).getWeight();
+            targets[next[sources[e]]] = destinations[e];
+            weights[next[sources[e]]++] = weight;
+            if (sources[e] != destinations[e]) {
+                targets[next[destinations[e]]] = sources[e];
+                weights[next[destinations[e]]++] = weight;
+            }
+        }
+        minWeight = Arrays.stream(weights).min().orElse(0);
+        maxWeight = Arrays.stream(weights).max().orElse(0);
+    }
+
+    private int endOf(Vertex<T> vertex) {
+        Integer index = indices.get(vertex);
+        if (index == null) {
+            throw new IllegalArgumentException("The edge ends must be vertices of the graph.");
+        }
+        return index;
+    }
+
+    @Override
+    public void addVertex(Vertex<T> vertex) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    public Vertex<T> findVertex(T data) {
+        return byData.get(data);
+    }
+
+    @Override
+    public void removeVertex(Vertex<T> vertex) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    public void addEdge(Vertex<T> source, Vertex<T> destination, int weight) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    public void removeEdge(Vertex<T> source, Vertex<T> destination) {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    @Override
+    public void removeAllEdges() {
+        throw new UnsupportedOperationException("The graph is immutable.");
+    }
+
+    private int indexOf(Vertex<T> vertex) {
+        Integer index = indices.get(vertex);
+        return index != null ? index : -1;
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> dfs(Vertex<T> source) {
+        return dfsSearch(source).getOrder();
+    }
+
+    @Override
+    public SearchResult<T> dfsSearch(Vertex<T> source) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        int sourceIndex = indexOf(source);
+        if (sourceIndex == -1) {
+            return result;
+        }
+        // explicit stack, cursor[i] is the next adjacency slot to look at for the i-th stacked vertex
+        int[] stack = new int[vertices.size()];
+        int[] cursor = new int[vertices.size()];
+        int top = 0;
+        stack[0] = sourceIndex;
+        cursor[0] = offsets[sourceIndex];
+        discover(result, sourceIndex);
+
+        while (top >= 0) {
+            int u = stack[top];
+            if (cursor[top] < offsets[u + 1]) {
+                int v = targets[cursor[top]++];
+                if (result.color[v] == Color.WHITE) {
+                    result.predecessor[v] = u;
+                    discover(result, v);
+                    top++;
+                    stack[top] = v;
+                    cursor[top] = offsets[v];
+                }
+            } else {
+                result.color[u] = Color.BLACK;
+                result.finishTime[u] = ++result.time;
+                top--;
+            }
+        }
+        return result;
+    }
+
+    private void discover(SearchResult<T> result, int vertex) {
+        result.color[vertex] = Color.GRAY;
+        result.discoveryTime[vertex] = ++result.time;
+        result.order.add(vertices.get(vertex));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bfs(Vertex<T> source) {
+        return bfsSearch(source).getOrder();
+    }
+
+    @Override
+    public SearchResult<T> bfsSearch(Vertex<T> source) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        int sourceIndex = indexOf(source);
+        if (sourceIndex == -1) {
+            return result;
+        }
+        int[] queue = new int[vertices.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = sourceIndex;
+        result.color[sourceIndex] = Color.GRAY;
+        result.distance[sourceIndex] = 0;
+
+        while (head < tail) {
+            int u = queue[head++];
+            result.order.add(vertices.get(u));
+            for (int slot = offsets[u]; slot < offsets[u + 1]; slot++) {
+                int v = targets[slot];
+                if (result.color[v] == Color.WHITE) {
+                    result.color[v] = Color.GRAY;
+                    result.distance[v] = result.distance[u] + 1;
+                    result.predecessor[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+            result.color[u] = Color.BLACK;
+        }
+        return result;
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> dijkstra(Vertex<T> source, Vertex<T> destination) {
+        return dijkstraSearch(source, destination).pathTo(destination);
+    }
+
+    @Override
+    public SearchResult<T> dijkstraSearch(Vertex<T> source, Vertex<T> destination) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        return ShortestPaths.run(result, this::forEachNeighbor, indexOf(source), indexOf(destination), minWeight, maxWeight);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> aStar(Vertex<T> source, Vertex<T> destination, Heuristic<T> heuristic) {
+        return aStarSearch(source, destination, heuristic).pathTo(destination);
+    }
+
+    @Override
+    public SearchResult<T> aStarSearch(Vertex<T> source, Vertex<T> destination, Heuristic<T> heuristic) {
+        SearchResult<T> result = new SearchResult<>(vertices);
+        return AStarEngine.run(result, this::forEachNeighbor, indexOf(source), indexOf(destination), heuristic);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalBfs(Vertex<T> source, Vertex<T> destination) {
+        return BidirectionalEngine.bfs(this::forEachNeighbor, vertices, indexOf(source), indexOf(destination), destination);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalDijkstra(Vertex<T> source, Vertex<T> destination) {
+        if (minWeight < 0) {
+            // the stopping rule needs non-negative weights
+            return dijkstra(source, destination);
+        }
+        return BidirectionalEngine.dijkstra(this::forEachNeighbor, vertices, indexOf(source), indexOf(destination), destination);
+    }
+
+    @Override
+    public boolean isReachable(Vertex<T> source, Vertex<T> destination) {
+        return ReachabilityEngine.run(this::forEachNeighbor, vertices.size(), indexOf(source), indexOf(destination));
+    }
+
+    @Override
+    public Iterator<Vertex<T>> bfsIterator(Vertex<T> source) {
+        return new BfsIterator<>(this::forEachNeighbor, vertices, indexOf(source));
+    }
+
+    @Override
+    public Iterator<Vertex<T>> dfsIterator(Vertex<T> source) {
+        return new DfsIterator<>(this::forEachNeighbor, vertices, indexOf(source));
+    }
+
+    // neighbors of the vertex with the given index as (index, weight) pairs, without creating any objects
+    public void forEachNeighbor(int vertex, NeighborVisitor visitor) {
+        if (vertex < 0 || vertex >= vertices.size()) {
+            throw new IllegalArgumentException("The vertex is not in the graph.");
+        }
+        for (int slot = offsets[vertex]; slot < offsets[vertex + 1]; slot++) {
+            visitor.visit(targets[slot], weights[slot]);
+        }
+    }
+
+    @Override
+    public int[][] floydWarshall() {
+        int[][] dist = initialDistances();
+        FloydWarshall.blocked(dist);
+        return dist;
+    }
+
+    @Override
+    public int[][] parallelFloydWarshall(int parallelism) {
+        int[][] dist = initialDistances();
+        FloydWarshall.parallel(dist, parallelism);
+        return dist;
+    }
+
+    private int[][] initialDistances() {
+        int[][] dist = FloydWarshall.newDistanceMatrix(vertices.size());
+        // keep the lightest of parallel edges
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int slot = offsets[i]; slot < offsets[i + 1]; slot++) {
+                if (targets[slot] != i) {
+                    dist[i][targets[slot]] = Math.min(dist[i][targets[slot]], weights[slot]);
+                }
+            }
+        }
+        return dist;
+    }
+
+    @Override
+    public AdjacencyListGraph<T> primAL() {
+        return SpanningTrees.prim(this::forEachNeighbor, vertices, new AdjacencyListGraph<>());
+    }
+
+    @Override
+    public AdjacencyListGraph<T> kruskalAL() {
+        return kruskal(new AdjacencyListGraph<>());
+    }
+
+    @Override
+    public AdjacencyMatrixGraph<T> primAM() {
+        return SpanningTrees.prim(this::forEachNeighbor, vertices, new AdjacencyMatrixGraph<>(vertices.size()));
+    }
+
+    @Override
+    public AdjacencyMatrixGraph<T> kruskalAM() {
+        return kruskal(new AdjacencyMatrixGraph<>(vertices.size()));
+    }
+
+    @Override
+    public AdjacencyListGraph<T> parallelKruskalAL(int parallelism) {
+        return SpanningTrees.parallelKruskal(edgeArrays(), vertices, new AdjacencyListGraph<>(), parallelism);
+    }
+
+    private <G extends iGraph<T>> G kruskal(G tree) {
+        return SpanningTrees.kruskal(edgeArrays(), vertices, tree);
+    }
+
+    // every undirected edge once, from the slot stored at its lower endpoint, self loops left out
+    private EdgeArrays edgeArrays() {
+        int[] slotSource = slotSources();
+        int count = 0;
+        for (int slot = 0; slot < targets.length; slot++) {
+            if (slotSource[slot] < targets[slot]) {
+                count++;
+            }
+        }
+        EdgeArrays arrays = new EdgeArrays(count);
+        int e = 0;
+        for (int slot = 0; slot < targets.length; slot++) {
+            if (slotSource[slot] < targets[slot]) {
+                arrays.sources[e] = slotSource[slot];
+                arrays.destinations[e] = targets[slot];
+                arrays.weights[e++] = weights[slot];
+            }
+        }
+        return arrays;
+    }
+
+    private int[] slotSources() {
+        int[] slotSource = new int[targets.length];
+        for (int i = 0; i < vertices.size(); i++) {
+            Arrays.fill(slotSource, offsets[i], offsets[i + 1], i);
+        }
+        return slotSource;
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> getVertices() {
+        return new ArrayList<>(vertices);
+    }
+
+    @Override
+    public List<Edge<T>> getAllEdges() {
+        List<Edge<T>> allEdges = new ArrayList<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            for (int slot = offsets[i]; slot < offsets[i + 1]; slot++) {
+                if (i <= targets[slot]) {
+                    allEdges.add(new Edge<>(vertices.get(i), vertices.get(targets[slot]), weights[slot]));
+                }
+            }
+        }
+        return allEdges;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.pipegame.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+
+// payload -> vertex index behind findVertex; like a scan of the vertex list it answers with the vertex of
+// lowest id among those with equal payloads, and it is told when a vertex goes or its payload changes
+final class DataIndex<T> {
+
+    private final List<Vertex<T>> vertices;
+    private final HashMap<T, Vertex<T>> byData;
+    // number of vertices holding each indexed payload, the list is only rescanned while another one is left
+    private final HashMap<T, Integer> counts;
+
+    DataIndex(List<Vertex<T>> vertices) {
+        this.vertices = vertices;
+        byData = new HashMap<>();
+        counts = new HashMap<>();
+    }
+
+    Vertex<T> get(T data) {
+        return byData.get(data);
+    }
+
+    void add(Vertex<T> vertex) {
+        index(vertex.getData(), vertex);
+        vertex.setDataIndex(this);
+    }
+
+    // after the vertex has left the vertex list
+    void remove(Vertex<T> vertex) {
+        vertex.setDataIndex(null);
+        unindex(vertex.getData(), vertex);
+    }
+
+    void changed(Vertex<T> vertex, T oldData) {
+        if (Objects.equals(oldData, vertex.getData())) {
+            return;
+        }
+        unindex(oldData, vertex);
+        index(vertex.getData(), vertex);
+    }
+
+    private void index(T data, Vertex<T> vertex) {
+        counts.merge(data, 1, Integer::sum);
+        Vertex<T> indexed = byData.get(data);
+        if (indexed == null || indexed.getId() > vertex.getId()) {
+            byData.put(data, vertex);
+        }
+    }
+
+    private void unindex(T data, Vertex<T> vertex) {
+        int count = counts.merge(data, -1, Integer::sum);
+        if (count == 0) {
+            counts.remove(data);
+            byData.remove(data);
+        } else if (byData.get(data) == vertex) {
+            reindex(data, vertex);
+        }
+    }
+
+    // the indexed vertex of a payload went while others with that payload are left, the first of them takes over
+    private void reindex(T data, Vertex<T> gone) {
+        for (Vertex<T> vertex : vertices) {
+            if (vertex != gone && Objects.equals(vertex.getData(), data)) {
+                byData.put(data, vertex);
+                return;
+            }
+        }
+    }
+}
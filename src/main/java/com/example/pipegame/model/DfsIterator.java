@@ -0,0 +1,69 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// depth-first preorder produced on demand; a vertex is marked when it is taken off the stack and its
+// neighbors are pushed in reverse, which yields the same order as the recursive dfs;
+// the graph must not change while the iterator is in use
+final class DfsIterator<T> implements Iterator<Vertex<T>>, NeighborVisitor {
+
+    private final WeightedAdjacency graph;
+    private final List<Vertex<T>> vertices;
+    private final long[] visited;
+    private int[] stack;
+    private int top;
+
+    DfsIterator(WeightedAdjacency graph, List<Vertex<T>> vertices, int source) {
+        this.graph = graph;
+        this.vertices = vertices;
+        visited = new long[(vertices.size() + 63) >>> 6];
+        stack = new int[16];
+        if (source != -1) {
+            stack[top++] = source;
+        }
+    }
+
+    private boolean isVisited(int vertex) {
+        return (visited[vertex >>> 6] & (1L << vertex)) != 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        // skip vertices that were pushed more than once and reached earlier through another entry
+        while (top > 0 && isVisited(stack[top - 1])) {
+            top--;
+        }
+        return top > 0;
+    }
+
+    @Override
+    public Vertex<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int u = stack[--top];
+        visited[u >>> 6] |= 1L << u;
+        int first = top;
+        graph.forEachNeighbor(u, this);
+        // reverse the pushed neighbors so the first one is explored first
+        for (int i = first, j = top - 1; i < j; i++, j--) {
+            int swap = stack[i];
+            stack[i] = stack[j];
+            stack[j] = swap;
+        }
+        return vertices.get(u);
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        if (!isVisited(target)) {
+            if (top == stack.length) {
+                stack = Arrays.copyOf(stack, 2 * stack.length);
+            }
+            stack[top++] = target;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// Dial's algorithm for small non-negative integer weights: queued vertices sit in a bucket per distance,
+// and since no edge is longer than maxWeight only maxWeight + 1 consecutive buckets are ever in use,
+// so the buckets are reused circularly and a query costs O(V + E + longest distance)
+final class DialEngine<T> implements NeighborVisitor {
+
+    private final SearchResult<T> result;
+    // bucket lists are threaded through next/previous by vertex id, so moving a vertex to a closer bucket is O(1)
+    private final int[] bucketHead;
+    private final int[] next;
+    private final int[] previous;
+    private int queued;
+    private int current;
+    // set when an edge weighs more than maxWeight or less than 0, the graph only tracks the weight range on addEdge
+    private boolean outOfRange;
+
+    private DialEngine(SearchResult<T> result, int maxWeight) {
+        this.result = result;
+        bucketHead = new int[maxWeight + 1];
+        Arrays.fill(bucketHead, -1);
+        next = new int[result.distance.length];
+        previous = new int[result.distance.length];
+    }
+
+    // null when some visited weight is outside [0, maxWeight], the result is then left half filled
+    static <T> SearchResult<T> run(SearchResult<T> result, WeightedAdjacency graph, int source, int destination, int maxWeight) {
+        DialEngine<T> engine = new DialEngine<>(result, maxWeight);
+        engine.search(graph, source, destination);
+        return engine.outOfRange ? null : result;
+    }
+
+    private void search(WeightedAdjacency graph, int source, int destination) {
+        result.distance[source] = 0;
+        result.color[source] = Color.GRAY;
+        insert(source);
+
+        for (int distance = 0; queued > 0; distance++) {
+            int bucket = distance % bucketHead.length;
+            // weight 0 edges can refill the bucket being drained
+            while (bucketHead[bucket] != -1) {
+                current = bucketHead[bucket];
+                unlink(current);
+                result.color[current] = Color.BLACK;
+                result.order.add(result.vertexAt(current));
+                if (current == destination) {
+                    return; // stop once the target vertex is settled
+                }
+                graph.forEachNeighbor(current, this);
+                if (outOfRange) {
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        if (weight < 0 || weight >= bucketHead.length) {
+            outOfRange = true;
+        }
+        if (outOfRange || result.color[target] == Color.BLACK) {
+            return;
+        }
+        int newDistance = result.distance[current] + weight;
+        if (newDistance < result.distance[target]) {
+            if (result.color[target] == Color.GRAY) {
+                unlink(target);
+            }
+            result.distance[target] = newDistance;
+            result.predecessor[target] = current;
+            result.color[target] = Color.GRAY;
+            insert(target);
+        }
+    }
+
+    private void insert(int vertex) {
+        int bucket = result.distance[vertex] % bucketHead.length;
+        next[vertex] = bucketHead[bucket];
+        previous[vertex] = -1;
+        if (bucketHead[bucket] != -1) {
+            previous[bucketHead[bucket]] = vertex;
+        }
+        bucketHead[bucket] = vertex;
+        queued++;
+    }
+
+    private void unlink(int vertex) {
+        if (previous[vertex] != -1) {
+            next[previous[vertex]] = next[vertex];
+        } else {
+            bucketHead[result.distance[vertex] % bucketHead.length] = next[vertex];
+        }
+        if (next[vertex] != -1) {
+            previous[next[vertex]] = previous[vertex];
+        }
+        queued--;
+    }
+}
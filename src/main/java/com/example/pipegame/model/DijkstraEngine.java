@@ -0,0 +1,54 @@
+package com.example.pipegame.model;
+
+// dijkstra over dense vertex ids with an indexed heap, distances and predecessors go straight into the
+// int arrays of the result so nothing is boxed and every vertex is queued at most once
+final class DijkstraEngine<T> implements NeighborVisitor {
+
+    private final SearchResult<T> result;
+    private final IndexedDaryHeap heap;
+    // the vertex whose neighbors are being relaxed
+    private int current;
+
+    private DijkstraEngine(SearchResult<T> result) {
+        this.result = result;
+        heap = new IndexedDaryHeap(result.distance.length);
+    }
+
+    // destination may be -1 to settle everything reachable from the source
+    static <T> SearchResult<T> run(SearchResult<T> result, WeightedAdjacency graph, int source, int destination) {
+        if (source != -1) {
+            new DijkstraEngine<>(result).search(graph, source, destination);
+        }
+        return result;
+    }
+
+    private void search(WeightedAdjacency graph, int source, int destination) {
+        result.distance[source] = 0;
+        result.color[source] = Color.GRAY;
+        heap.insertOrDecrease(source, 0);
+
+        while (!heap.isEmpty()) {
+            current = heap.poll();
+            result.color[current] = Color.BLACK;
+            result.order.add(result.vertexAt(current));
+            if (current == destination) {
+                break; // break the loop if the target vertex is reached
+            }
+            graph.forEachNeighbor(current, this);
+        }
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        if (result.color[target] == Color.BLACK) {
+            return;
+        }
+        int newDistance = result.distance[current] + weight;
+        if (newDistance < result.distance[target]) {
+            result.distance[target] = newDistance;
+            result.predecessor[target] = current;
+            result.color[target] = Color.GRAY;
+            heap.insertOrDecrease(target, newDistance);
+        }
+    }
+}
@@ -28,6 +28,10 @@ public class Edge<T> {
         this.destination = destination;
     }
 
+    public Vertex<T> getOpposite(Vertex<T> vertex) {
+        return source == vertex ? destination : source;
+    }
+
     public int getWeight() {
         return weight;
     }
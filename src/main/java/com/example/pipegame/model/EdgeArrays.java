@@ -0,0 +1,19 @@
+package com.example.pipegame.model;
+
+// undirected edges as parallel arrays, edge e joins the vertex ids sources[e] and destinations[e]
+final class EdgeArrays {
+
+    final int[] sources;
+    final int[] destinations;
+    final int[] weights;
+
+    EdgeArrays(int count) {
+        sources = new int[count];
+        destinations = new int[count];
+        weights = new int[count];
+    }
+
+    int size() {
+        return weights.length;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+// filter-Kruskal over edges packed as (weight << 32) | edge index, so comparing the longs orders by weight:
+// the edges are split around a pivot weight, the light half is solved first and the heavy half is then
+// filtered down to the edges that still join two components, so most heavy edges are never sorted.
+// the filters and the sorts of the partitions run as tasks of a dedicated pool of the requested parallelism
+final class FilterKruskal {
+
+    // below this size a partition is sorted whole instead of split again
+    static final int LEAF_SIZE = 1 << 15;
+    // below this size a sort task sorts its range sequentially instead of forking
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final int[] sources;
+    private final int[] destinations;
+    private final UnionFind components;
+    private final int[] chosen;
+    private int chosenCount;
+
+    private FilterKruskal(int[] sources, int[] destinations, int vertexCount) {
+        this.sources = sources;
+        this.destinations = destinations;
+        components = new UnionFind(vertexCount);
+        chosen = new int[Math.max(vertexCount - 1, 0)];
+    }
+
+    // indices of the edges of a minimum spanning forest, in the order kruskal accepts them
+    static int[] run(int[] sources, int[] destinations, int[] weights, int vertexCount, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism level must be positive.");
+        }
+        long[] edges = new long[weights.length];
+        int count = 0;
+        for (int e = 0; e < weights.length; e++) {
+            if (sources[e] != destinations[e]) {
+                edges[count++] = ((long) weights[e] << 32) | e;
+            }
+        }
+        FilterKruskal kruskal = new FilterKruskal(sources, destinations, vertexCount);
+        long[] candidates = Arrays.copyOf(edges, count);
+        // the sort tasks and parallel streams below run in whichever pool invokes them
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> kruskal.solve(candidates)));
+        } finally {
+            pool.shutdown();
+        }
+        return Arrays.copyOf(kruskal.chosen, kruskal.chosenCount);
+    }
+
+    private void solve(long[] edges) {
+        if (edges.length == 0 || components.componentCount() == 1) {
+            return;
+        }
+        if (edges.length <= LEAF_SIZE) {
+            sort(edges);
+            scan(edges);
+            return;
+        }
+        // every packed edge with a weight up to the pivot is at most bound
+        long bound = ((long) pivotWeight(edges) << 32) | 0xFFFFFFFFL;
+        long[] light = Arrays.stream(edges).parallel().filter(edge -> edge <= bound).toArray();
+        if (light.length == edges.length) {
+            // the pivot was the heaviest weight, splitting again would not make progress
+            sort(edges);
+            scan(edges);
+            return;
+        }
+        solve(light);
+        // the union-find is only read while filtering, root does not compress paths
+        long[] heavy = Arrays.stream(edges).parallel()
+                .filter(edge -> edge > bound && components.root(sources[(int) edge]) != components.root(destinations[(int) edge]))
+                .toArray();
+        solve(heavy);
+    }
+
+    // forks into the pool of the calling worker, unlike Arrays.parallelSort, which sizes itself from the common pool
+    private static void sort(long[] edges) {
+        new SortTask(edges, new long[edges.length], 0, edges.length).invoke();
+    }
+
+    // median of the first, middle and last weights
+    private static int pivotWeight(long[] edges) {
+        int a = (int) (edges[0] >> 32);
+        int b = (int) (edges[edges.length / 2] >> 32);
+        int c = (int) (edges[edges.length - 1] >> 32);
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private void scan(long[] sortedEdges) {
+        for (long edge : sortedEdges) {
+            int e = (int) edge;
+            if (components.union(sources[e], destinations[e])) {
+                chosen[chosenCount++] = e;
+                if (components.componentCount() == 1) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // merge sort of edges[from, to) that forks its halves, buffer is scratch space of the same length
+    private static final class SortTask extends RecursiveAction {
+
+        private final long[] edges;
+        private final long[] buffer;
+        private final int from;
+        private final int to;
+
+        private SortTask(long[] edges, long[] buffer, int from, int to) {
+            this.edges = edges;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Arrays.sort(edges, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SortTask(edges, buffer, from, middle), new SortTask(edges, buffer, middle, to));
+            System.arraycopy(edges, from, buffer, from, to - from);
+            int left = from;
+            int right = middle;
+            for (int i = from; i < to; i++) {
+                edges[i] = right == to || (left < middle && buffer[left] <= buffer[right]) ? buffer[left++] : buffer[right++];
+            }
+        }
+    }
+}
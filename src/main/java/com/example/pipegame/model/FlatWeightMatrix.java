@@ -0,0 +1,47 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// all rows in one array, row i starts at i * capacity
+final class FlatWeightMatrix implements WeightMatrix {
+
+    private int[] cells;
+    private int capacity;
+
+    FlatWeightMatrix(int capacity) {
+        this.cells = new int[Math.multiplyExact(capacity, capacity)];
+        this.capacity = capacity;
+    }
+
+    @Override
+    public int get(int row, int column) {
+        return cells[row * capacity + column];
+    }
+
+    @Override
+    public void set(int row, int column, int weight) {
+        cells[row * capacity + column] = weight;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void clear(int size) {
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(cells, i * capacity, i * capacity + size, 0);
+        }
+    }
+
+    @Override
+    public void grow(int capacity, int size) {
+        int[] newCells = new int[Math.multiplyExact(capacity, capacity)];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(cells, i * this.capacity, newCells, i * capacity, size);
+        }
+        cells = newCells;
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.pipegame.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// all-pairs shortest paths over a distance matrix where Integer.MAX_VALUE means unreachable
+final class FloydWarshall {
+
+    // a 64 x 64 tile of ints is 16 KB, so the three tiles of an update fit in L1/L2
+    static final int BLOCK_SIZE = 64;
+    static final int INFINITY = Integer.MAX_VALUE;
+    // the SIMD kernel needs the incubator module, e.g. --add-modules jdk.incubator.vector
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("pipegame.scalarFloydWarshall");
+
+    private FloydWarshall() {
+    }
+
+    static int[][] newDistanceMatrix(int size) {
+        int[][] dist = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(dist[i], INFINITY);
+            dist[i][i] = 0;
+        }
+        return dist;
+    }
+
+    static void blocked(int[][] dist) {
+        int size = dist.length;
+        for (int kb = 0; kb < size; kb += BLOCK_SIZE) {
+            int kEnd = Math.min(kb + BLOCK_SIZE, size);
+            // phase 1: the diagonal tile only depends on itself
+            relax(dist, kb, kEnd, kb, kEnd, kb, kEnd);
+            // phase 2: the tiles in row kb and column kb depend on the diagonal tile
+            for (int b = 0; b < size; b += BLOCK_SIZE) {
+                if (b != kb) {
+                    int end = Math.min(b + BLOCK_SIZE, size);
+                    relax(dist, kb, kEnd, kb, kEnd, b, end);
+                    relax(dist, kb, kEnd, b, end, kb, kEnd);
+                }
+            }
+            // phase 3: every other tile depends on one tile of each of the above
+            for (int ib = 0; ib < size; ib += BLOCK_SIZE) {
+                if (ib != kb) {
+                    relaxRow(dist, kb, kEnd, ib, Math.min(ib + BLOCK_SIZE, size));
+                }
+            }
+        }
+    }
+
+    static void parallel(int[][] dist, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism level must be positive.");
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> parallelBlocked(dist)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // same phases as blocked, the tiles of phase 2 and the block rows of phase 3 write disjoint cells
+    private static void parallelBlocked(int[][] dist) {
+        int size = dist.length;
+        for (int kb = 0; kb < size; kb += BLOCK_SIZE) {
+            int k = kb;
+            int kEnd = Math.min(kb + BLOCK_SIZE, size);
+            relax(dist, kb, kEnd, kb, kEnd, kb, kEnd);
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int b = 0; b < size; b += BLOCK_SIZE) {
+                if (b != kb) {
+                    int start = b;
+                    int end = Math.min(b + BLOCK_SIZE, size);
+                    tasks.add(ForkJoinTask.adapt(() -> relax(dist, k, kEnd, k, kEnd, start, end)));
+                    tasks.add(ForkJoinTask.adapt(() -> relax(dist, k, kEnd, start, end, k, kEnd)));
+                }
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            tasks.clear();
+            for (int ib = 0; ib < size; ib += BLOCK_SIZE) {
+                if (ib != kb) {
+                    int start = ib;
+                    int end = Math.min(ib + BLOCK_SIZE, size);
+                    tasks.add(ForkJoinTask.adapt(() -> relaxRow(dist, k, kEnd, start, end)));
+                }
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+
+    // phase 3 for the tiles of one block row, skipping the already finished column kb
+    static void relaxRow(int[][] dist, int kb, int kEnd, int ib, int iEnd) {
+        int size = dist.length;
+        for (int jb = 0; jb < size; jb += BLOCK_SIZE) {
+            if (jb != kb) {
+                relax(dist, kb, kEnd, ib, iEnd, jb, Math.min(jb + BLOCK_SIZE, size));
+            }
+        }
+    }
+
+    // dist[i][j] = min(dist[i][j], dist[i][k] + dist[k][j]) for k, i and j in the given ranges
+    static void relax(int[][] dist, int kStart, int kEnd, int iStart, int iEnd, int jStart, int jEnd) {
+        for (int k = kStart; k < kEnd; k++) {
+            int[] rowK = dist[k];
+            for (int i = iStart; i < iEnd; i++) {
+                int[] rowI = dist[i];
+                int distIK = rowI[k];
+                if (distIK == INFINITY) {
+                    continue;
+                }
+                if (VECTORIZED) {
+                    VectorMinPlus.relaxRow(rowI, rowK, distIK, jStart, jEnd);
+                } else {
+                    scalarRelaxRow(rowI, rowK, distIK, jStart, jEnd);
+                }
+            }
+        }
+    }
+
+    // rowI[j] = min(rowI[j], distIK + rowK[j]) with a saturating add, so INFINITY entries never wrap around
+    static void scalarRelaxRow(int[] rowI, int[] rowK, int distIK, int from, int to) {
+        for (int j = from; j < to; j++) {
+            int distKJ = rowK[j];
+            if (distKJ != INFINITY) {
+                int sum = distIK + distKJ;
+                if (((distIK ^ sum) & (distKJ ^ sum)) < 0) {
+                    sum = distIK < 0 ? Integer.MIN_VALUE : INFINITY;
+                }
+                if (sum < rowI[j]) {
+                    rowI[j] = sum;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.example.pipegame.model;
+
+import java.util.*;
+import java.util.function.IntFunction;
+
+// rectangular board where every open cell is joined to its open neighbors above, left, right and below by
+// an edge of weight 1; the only stored state is one bit per cell for the blocked ones, neighbors are
+// computed from the coordinates and the vertex of a cell is created each time it is asked for, without being kept.
+// cell = row * columns + column is the id of the cell's vertex; two vertices of the same cell of the same grid
+// are equal, so queries share no state, and vertices of any other graph are not in the grid
+public class GridGraph<T> implements iGraph<T> {
+
+    private final int rows;
+    private final int columns;
+    private final long[] blocked;
+    // payload for the vertex of a cell, given the cell number
+    private final IntFunction<T> cellData;
+    // every cell in id order, blocked ones included, so the shared engines can index it like a vertex list
+    private final List<Vertex<T>> cells;
+
+    public GridGraph(int rows, int columns, IntFunction<T> cellData) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("The size of the grid cannot be negative.");
+        }
+        if (cellData == null) {
+            throw new IllegalArgumentException("The cell data cannot be null.");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        blocked = new long[(Math.multiplyExact(rows, columns) + 63) >>> 6];
+        this.cellData = cellData;
+        cells = new AbstractList<>() {
+            @Override
+            public Vertex<T> get(int cell) {
+                return vertexAt(cell);
+            }
+
+            @Override
+            public int size() {
+                return rows * columns;
+            }
+
+            @Override
+            public int indexOf(Object vertex) {
+                return vertex instanceof Vertex<?> v && GridGraph.this.contains(v) ? ((Cell<?>) v).cell : -1;
+            }
+        };
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    private int cellOf(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("The cell is outside the grid.");
+        }
+        return row * columns + column;
+    }
+
+    private boolean isOpen(int cell) {
+        return (blocked[cell >>> 6] & (1L << cell)) == 0;
+    }
+
+    public boolean isBlocked(int row, int column) {
+        return !isOpen(cellOf(row, column));
+    }
+
+    public void setBlocked(int row, int column, boolean isBlocked) {
+        int cell = cellOf(row, column);
+        if (isBlocked) {
+            blocked[cell >>> 6] |= 1L << cell;
+        } else {
+            blocked[cell >>> 6] &= ~(1L << cell);
+        }
+    }
+
+    // a new vertex of an open cell on every call, null for a blocked one
+    public Vertex<T> vertexAt(int row, int column) {
+        return vertexAt(cellOf(row, column));
+    }
+
+    private Vertex<T> vertexAt(int cell) {
+        if (!isOpen(cell)) {
+            return null;
+        }
+        return newVertex(cell, cellData.apply(cell));
+    }
+
+    private Vertex<T> newVertex(int cell, T data) {
+        return new Cell<>(this, cell, data);
+    }
+
+    private boolean contains(Vertex<?> vertex) {
+        return vertex instanceof Cell<?> c && c.grid == this && isOpen(c.cell);
+    }
+
+    private int indexOf(Vertex<T> vertex) {
+        return contains(vertex) ? ((Cell<?>) vertex).cell : -1;
+    }
+
+    // vertex of one cell; the cell is kept apart from the id, which another graph may overwrite
+    private static final class Cell<T> extends Vertex<T> {
+
+        private final GridGraph<T> grid;
+        private final int cell;
+
+        private Cell(GridGraph<T> grid, int cell, T data) {
+            super(data);
+            this.grid = grid;
+            this.cell = cell;
+            setId(cell);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Cell<?> c && c.grid == grid && c.cell == cell;
+        }
+
+        @Override
+        public int hashCode() {
+            return cell;
+        }
+    }
+
+    @Override
+    public void addVertex(Vertex<T> vertex) {
+        throw new UnsupportedOperationException("The cells of a grid are fixed, unblock a cell instead.");
+    }
+
+    @Override
+    public Vertex<T> findVertex(T data) {
+        // only the payloads are computed, the vertex is created for the matching cell alone
+        for (int cell = 0; cell < rows * columns; cell++) {
+            if (isOpen(cell)) {
+                T cellPayload = cellData.apply(cell);
+                if (Objects.equals(cellPayload, data)) {
+                    return newVertex(cell, cellPayload);
+                }
+            }
+        }
+        return null;
+    }
+
+    // removing the vertex of a cell blocks the cell
+    @Override
+    public void removeVertex(Vertex<T> vertex) {
+        int cell = indexOf(vertex);
+        if (cell == -1) {
+            throw new IllegalArgumentException("The vertex is not in the graph.");
+        }
+        setBlocked(cell / columns, cell % columns, true);
+    }
+
+    @Override
+    public void addEdge(Vertex<T> source, Vertex<T> destination, int weight) {
+        throw new UnsupportedOperationException("The edges of a grid follow from its open cells.");
+    }
+
+    @Override
+    public void removeEdge(Vertex<T> source, Vertex<T> destination) {
+        throw new UnsupportedOperationException("The edges of a grid follow from its open cells.");
+    }
+
+    @Override
+    public void removeAllEdges() {
+        throw new UnsupportedOperationException("The edges of a grid follow from its open cells.");
+    }
+
+    // open neighbors of the cell in increasing cell order: above, left, right, below
+    public void forEachNeighbor(int cell, NeighborVisitor visitor) {
+        if (cell < 0 || cell >= rows * columns) {
+            throw new IllegalArgumentException("The vertex is not in the graph.");
+        }
+        if (!isOpen(cell)) {
+            return;
+        }
+        for (int direction = 0; direction < 4; direction++) {
+            int neighbor = neighbor(cell, direction);
+            if (neighbor != -1) {
+                visitor.visit(neighbor, 1);
+            }
+        }
+    }
+
+    // neighbor of the cell in the given direction (0 above, 1 left, 2 right, 3 below), -1 when it is blocked or off the board
+    private int neighbor(int cell, int direction) {
+        int column = cell % columns;
+        return switch (direction) {
+            case 0 -> cell >= columns && isOpen(cell - columns) ? cell - columns : -1;
+            case 1 -> column > 0 && isOpen(cell - 1) ? cell - 1 : -1;
+            case 2 -> column < columns - 1 && isOpen(cell + 1) ? cell + 1 : -1;
+            default -> cell + columns < rows * columns && isOpen(cell + columns) ? cell + columns : -1;
+        };
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> dfs(Vertex<T> source) {
+        return dfsSearch(source).getOrder();
+    }
+
+    @Override
+    public SearchResult<T> dfsSearch(Vertex<T> source) {
+        SearchResult<T> result = SearchResult.over(cells);
+        int sourceCell = indexOf(source);
+        if (sourceCell == -1) {
+            return result;
+        }
+        // explicit stack, direction[i] is the next direction to try for the i-th stacked cell
+        int[] stack = new int[rows * columns];
+        int[] direction = new int[rows * columns];
+        int top = 0;
+        stack[0] = sourceCell;
+        discover(result, sourceCell);
+
+        while (top >= 0) {
+            int u = stack[top];
+            int v = -1;
+            while (direction[top] < 4 && v == -1) {
+                v = neighbor(u, direction[top]++);
+                if (v != -1 && result.color[v] != Color.WHITE) {
+                    v = -1;
+                }
+            }
+            if (v != -1) {
+                result.predecessor[v] = u;
+                discover(result, v);
+                top++;
+                stack[top] = v;
+                direction[top] = 0;
+            } else {
+                result.color[u] = Color.BLACK;
+                result.finishTime[u] = ++result.time;
+                top--;
+            }
+        }
+        return result;
+    }
+
+    private void discover(SearchResult<T> result, int cell) {
+        result.color[cell] = Color.GRAY;
+        result.discoveryTime[cell] = ++result.time;
+        result.order.add(vertexAt(cell));
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bfs(Vertex<T> source) {
+        return bfsSearch(source).getOrder();
+    }
+
+    @Override
+    public SearchResult<T> bfsSearch(Vertex<T> source) {
+        SearchResult<T> result = SearchResult.over(cells);
+        int sourceCell = indexOf(source);
+        if (sourceCell == -1) {
+            return result;
+        }
+        int[] queue = new int[rows * columns];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = sourceCell;
+        result.color[sourceCell] = Color.GRAY;
+        result.distance[sourceCell] = 0;
+
+        while (head < tail) {
+            int u = queue[head++];
+            result.order.add(vertexAt(u));
+            for (int direction = 0; direction < 4; direction++) {
+                int v = neighbor(u, direction);
+                if (v != -1 && result.color[v] == Color.WHITE) {
+                    result.color[v] = Color.GRAY;
+                    result.distance[v] = result.distance[u] + 1;
+                    result.predecessor[v] = u;
+                    queue[tail++] = v;
+                }
+            }
+            result.color[u] = Color.BLACK;
+        }
+        return result;
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> dijkstra(Vertex<T> source, Vertex<T> destination) {
+        return dijkstraSearch(source, destination).pathTo(destination);
+    }
+
+    @Override
+    public SearchResult<T> dijkstraSearch(Vertex<T> source, Vertex<T> destination) {
+        SearchResult<T> result = SearchResult.over(cells);
+        return ShortestPaths.run(result, this::forEachNeighbor, indexOf(source), indexOf(destination), 1, 1);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> aStar(Vertex<T> source, Vertex<T> destination, Heuristic<T> heuristic) {
+        return aStarSearch(source, destination, heuristic).pathTo(destination);
+    }
+
+    @Override
+    public SearchResult<T> aStarSearch(Vertex<T> source, Vertex<T> destination, Heuristic<T> heuristic) {
+        SearchResult<T> result = SearchResult.over(cells);
+        return AStarEngine.run(result, this::forEachNeighbor, indexOf(source), indexOf(destination), heuristic);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalBfs(Vertex<T> source, Vertex<T> destination) {
+        return BidirectionalEngine.bfs(this::forEachNeighbor, cells, indexOf(source), indexOf(destination), destination);
+    }
+
+    @Override
+    public ArrayList<Vertex<T>> bidirectionalDijkstra(Vertex<T> source, Vertex<T> destination) {
+        // with unit weights the shortest paths are the fewest steps
+        return bidirectionalBfs(source, destination);
+    }
+
+    @Override
+    public boolean isReachable(Vertex<T> source, Vertex<T> destination) {
+        return ReachabilityEngine.run(this::forEachNeighbor, rows * columns, indexOf(source), indexOf(destination));
+    }
+
+    @Override
+    public Iterator<Vertex<T>> bfsIterator(Vertex<T> source) {
+        return new BfsIterator<>(this::forEachNeighbor, cells, indexOf(source));
+    }
+
+    @Override
+    public Iterator<Vertex<T>> dfsIterator(Vertex<T> source) {
+        return new DfsIterator<>(this::forEachNeighbor, cells, indexOf(source));
+    }
+
+    // the all-pairs and spanning tree queries are indexed by open cell, like getVertices, so they run on a
+    // compact snapshot instead of the full cell range
+    @Override
+    public int[][] floydWarshall() {
+        return new CsrGraph<>(this).floydWarshall();
+    }
+
+    @Override
+    public int[][] parallelFloydWarshall(int parallelism) {
+        return new CsrGraph<>(this).parallelFloydWarshall(parallelism);
+    }
+
+    @Override
+    public AdjacencyListGraph<T> primAL() {
+        return new CsrGraph<>(this).primAL();
+    }
+
+    @Override
+    public AdjacencyListGraph<T> kruskalAL() {
+        return new CsrGraph<>(this).kruskalAL();
+    }
+
+    @Override
+    public AdjacencyListGraph<T> parallelKruskalAL(int parallelism) {
+        return new CsrGraph<>(this).parallelKruskalAL(parallelism);
+    }
+
+    @Override
+    public AdjacencyMatrixGraph<T> primAM() {
+        return new CsrGraph<>(this).primAM();
+    }
+
+    @Override
+    public AdjacencyMatrixGraph<T> kruskalAM() {
+        return new CsrGraph<>(this).kruskalAM();
+    }
+
+    // new vertices for the open cells in cell order
+    @Override
+    public ArrayList<Vertex<T>> getVertices() {
+        ArrayList<Vertex<T>> vertices = new ArrayList<>();
+        for (int cell = 0; cell < rows * columns; cell++) {
+            if (isOpen(cell)) {
+                vertices.add(vertexAt(cell));
+            }
+        }
+        return vertices;
+    }
+
+    @Override
+    public List<Edge<T>> getAllEdges() {
+        List<Edge<T>> allEdges = new ArrayList<>();
+        for (int cell = 0; cell < rows * columns; cell++) {
+            if (isOpen(cell)) {
+                // each edge once, from its left or upper end
+                int right = neighbor(cell, 2);
+                if (right != -1) {
+                    allEdges.add(new Edge<>(vertexAt(cell), vertexAt(right), 1));
+                }
+                int below = neighbor(cell, 3);
+                if (below != -1) {
+                    allEdges.add(new Edge<>(vertexAt(cell), vertexAt(below), 1));
+                }
+            }
+        }
+        return allEdges;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.pipegame.model;
+
+// lower bound on the distance from a vertex to the target, A* only returns shortest paths when the
+// estimate never overshoots and it expands each vertex once when estimates also obey the triangle inequality
+@FunctionalInterface
+public interface Heuristic<T> {
+    int estimate(Vertex<T> vertex, Vertex<T> target);
+}
@@ -0,0 +1,114 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// min-heap of vertex ids ordered by a long key, ties broken by the smaller id; position[] tracks where
+// every id sits so a key can be lowered in place instead of adding a duplicate entry
+final class IndexedDaryHeap {
+
+    // four children per node keep the tree shallow and the children of a node in one cache line
+    private static final int ARITY = 4;
+
+    private final int[] heap;
+    private final int[] position;
+    private final long[] keys;
+    private int size;
+
+    IndexedDaryHeap(int capacity) {
+        heap = new int[capacity];
+        position = new int[capacity];
+        Arrays.fill(position, -1);
+        keys = new long[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int id) {
+        return position[id] != -1;
+    }
+
+    long key(int id) {
+        return keys[id];
+    }
+
+    // inserts the id, or lowers its key if it is already queued with a larger one
+    void insertOrDecrease(int id, long key) {
+        if (position[id] == -1) {
+            keys[id] = key;
+            heap[size] = id;
+            position[id] = size;
+            size++;
+            siftUp(size - 1);
+        } else if (key < keys[id]) {
+            keys[id] = key;
+            siftUp(position[id]);
+        }
+    }
+
+    int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("The heap is empty.");
+        }
+        return heap[0];
+    }
+
+    int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("The heap is empty.");
+        }
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private boolean less(int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / ARITY;
+            if (!less(id, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        while (true) {
+            int first = index * ARITY + 1;
+            if (first >= size) {
+                break;
+            }
+            int best = first;
+            int end = Math.min(first + ARITY, size);
+            for (int child = first + 1; child < end; child++) {
+                if (less(heap[child], heap[best])) {
+                    best = child;
+                }
+            }
+            if (!less(heap[best], id)) {
+                break;
+            }
+            heap[index] = heap[best];
+            position[heap[index]] = index;
+            index = best;
+        }
+        heap[index] = id;
+        position[id] = index;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// wraps another matrix and keeps, for every row, its non-zero columns in ascending order, so walking the
+// neighbors of a vertex costs its degree instead of a full row scan while get stays a single lookup
+final class IndexedWeightMatrix implements WeightMatrix {
+
+    private final WeightMatrix matrix;
+    private int[][] columns;
+    private int[] degree;
+
+    IndexedWeightMatrix(WeightMatrix matrix) {
+        this.matrix = matrix;
+        columns = new int[matrix.capacity()][];
+        degree = new int[matrix.capacity()];
+        Arrays.fill(columns, new int[0]);
+    }
+
+    @Override
+    public int get(int row, int column) {
+        return matrix.get(row, column);
+    }
+
+    @Override
+    public void set(int row, int column, int weight) {
+        boolean had = matrix.get(row, column) != 0;
+        matrix.set(row, column, weight);
+        if (had == (weight != 0)) {
+            return;
+        }
+        int[] rowColumns = columns[row];
+        int position = Arrays.binarySearch(rowColumns, 0, degree[row], column);
+        if (weight != 0) {
+            if (degree[row] == rowColumns.length) {
+                rowColumns = Arrays.copyOf(rowColumns, Math.max(2 * rowColumns.length, 4));
+                columns[row] = rowColumns;
+            }
+            position = -position - 1;
+            System.arraycopy(rowColumns, position, rowColumns, position + 1, degree[row] - position);
+            rowColumns[position] = column;
+            degree[row]++;
+        } else {
+            System.arraycopy(rowColumns, position + 1, rowColumns, position, degree[row] - position - 1);
+            degree[row]--;
+        }
+    }
+
+    @Override
+    public int nextNeighbor(int row, int from, int size) {
+        int position = Arrays.binarySearch(columns[row], 0, degree[row], from);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return position < degree[row] && columns[row][position] < size ? columns[row][position] : size;
+    }
+
+    @Override
+    public int capacity() {
+        return matrix.capacity();
+    }
+
+    // only the indexed cells can be non-zero, so this is O(V + E) instead of a full sweep
+    @Override
+    public void clear(int size) {
+        for (int row = 0; row < size; row++) {
+            for (int i = 0; i < degree[row]; i++) {
+                matrix.set(row, columns[row][i], 0);
+            }
+            degree[row] = 0;
+        }
+    }
+
+    @Override
+    public void grow(int capacity, int size) {
+        matrix.grow(capacity, size);
+        int oldCapacity = columns.length;
+        columns = Arrays.copyOf(columns, capacity);
+        Arrays.fill(columns, oldCapacity, capacity, new int[0]);
+        degree = Arrays.copyOf(degree, capacity);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.pipegame.model;
+
+// grid distance between the cells of two pipes, scaled by the lightest edge weight of the board
+public class ManhattanHeuristic implements Heuristic<Pipe> {
+
+    private final int minEdgeWeight;
+
+    public ManhattanHeuristic() {
+        this(1);
+    }
+
+    public ManhattanHeuristic(int minEdgeWeight) {
+        if (minEdgeWeight < 0) {
+            throw new IllegalArgumentException("The edge weight cannot be negative.");
+        }
+        this.minEdgeWeight = minEdgeWeight;
+    }
+
+    @Override
+    public int estimate(Vertex<Pipe> vertex, Vertex<Pipe> target) {
+        Pipe from = vertex.getData();
+        Pipe to = target.getData();
+        return minEdgeWeight * (Math.abs(from.getRow() - to.getRow()) + Math.abs(from.getCol() - to.getCol()));
+    }
+}
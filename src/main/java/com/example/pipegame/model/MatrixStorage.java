@@ -0,0 +1,7 @@
+package com.example.pipegame.model;
+
+public enum MatrixStorage {
+    ROWS,   // one int[] per row
+    FLAT,   // a single row-major int[]
+    BITS    // one long[] bitset per row, only for edges of weight 1
+}
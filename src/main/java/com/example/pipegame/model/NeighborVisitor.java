@@ -0,0 +1,7 @@
+package com.example.pipegame.model;
+
+// receives the neighbors of a vertex as (vertex id, edge weight) pairs, without boxing or Edge objects
+@FunctionalInterface
+public interface NeighborVisitor {
+    void visit(int target, int weight);
+}
@@ -0,0 +1,63 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+// stops as soon as the target shows up; visited vertices are one bit each and the stack only grows
+// with the frontier, so nothing is allocated per reachable vertex
+final class ReachabilityEngine implements NeighborVisitor {
+
+    private final long[] visited;
+    private final int target;
+    private int[] stack;
+    private int top;
+    private boolean found;
+
+    private ReachabilityEngine(int size, int target) {
+        visited = new long[(size + 63) >>> 6];
+        this.target = target;
+        stack = new int[16];
+    }
+
+    static boolean run(WeightedAdjacency graph, int size, int source, int target) {
+        if (source == -1 || target == -1) {
+            return false;
+        }
+        if (source == target) {
+            return true;
+        }
+        return new ReachabilityEngine(size, target).search(graph, source);
+    }
+
+    private boolean search(WeightedAdjacency graph, int source) {
+        mark(source);
+        push(source);
+        while (top > 0 && !found) {
+            graph.forEachNeighbor(stack[--top], this);
+        }
+        return found;
+    }
+
+    @Override
+    public void visit(int neighbor, int weight) {
+        if (found || (visited[neighbor >>> 6] & (1L << neighbor)) != 0) {
+            return;
+        }
+        if (neighbor == target) {
+            found = true;
+            return;
+        }
+        mark(neighbor);
+        push(neighbor);
+    }
+
+    private void mark(int vertex) {
+        visited[vertex >>> 6] |= 1L << vertex;
+    }
+
+    private void push(int vertex) {
+        if (top == stack.length) {
+            stack = Arrays.copyOf(stack, 2 * stack.length);
+        }
+        stack[top++] = vertex;
+    }
+}
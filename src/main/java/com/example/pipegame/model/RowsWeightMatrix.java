@@ -0,0 +1,43 @@
+package com.example.pipegame.model;
+
+import java.util.Arrays;
+
+final class RowsWeightMatrix implements WeightMatrix {
+
+    private int[][] matrix;
+
+    RowsWeightMatrix(int capacity) {
+        matrix = new int[capacity][capacity];
+    }
+
+    @Override
+    public int get(int row, int column) {
+        return matrix[row][column];
+    }
+
+    @Override
+    public void set(int row, int column, int weight) {
+        matrix[row][column] = weight;
+    }
+
+    @Override
+    public int capacity() {
+        return matrix.length;
+    }
+
+    @Override
+    public void clear(int size) {
+        for (int i = 0; i < size; i++) {
+            Arrays.fill(matrix[i], 0, size, 0);
+        }
+    }
+
+    @Override
+    public void grow(int capacity, int size) {
+        int[][] newMatrix = new int[capacity][capacity];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(matrix[i], 0, newMatrix[i], 0, size);
+        }
+        matrix = newMatrix;
+    }
+}
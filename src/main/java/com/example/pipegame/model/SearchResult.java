@@ -0,0 +1,125 @@
+package com.example.pipegame.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// outcome of one bfs, dfs or dijkstra run, the per-vertex state lives in arrays indexed by vertex id
+// instead of in the vertices, so any number of queries can run against the same graph at once
+public class SearchResult<T> {
+
+    static final int UNREACHED = Integer.MAX_VALUE;
+
+    // the vertices of the graph when the query ran, position i holds the vertex with id i
+    private final List<Vertex<T>> vertices;
+    // the list creates its vertices on demand and answers indexOf by id, so there is no instance to compare against
+    private final boolean onDemand;
+    final ArrayList<Vertex<T>> order;
+    final Color[] color;
+    final int[] distance;
+    final int[] predecessor;
+    final int[] discoveryTime;
+    final int[] finishTime;
+    int time;
+
+    SearchResult(List<Vertex<T>> vertices) {
+        this(new ArrayList<>(vertices), vertices.size(), false);
+    }
+
+    private SearchResult(List<Vertex<T>> vertices, int size, boolean onDemand) {
+        this.vertices = vertices;
+        this.onDemand = onDemand;
+        order = new ArrayList<>();
+        color = new Color[size];
+        Arrays.fill(color, Color.WHITE);
+        distance = new int[size];
+        Arrays.fill(distance, UNREACHED);
+        predecessor = new int[size];
+        Arrays.fill(predecessor, -1);
+        discoveryTime = new int[size];
+        finishTime = new int[size];
+    }
+
+    // back to the state before any query ran
+    void reset() {
+        order.clear();
+        Arrays.fill(color, Color.WHITE);
+        Arrays.fill(distance, UNREACHED);
+        Arrays.fill(predecessor, -1);
+        Arrays.fill(discoveryTime, 0);
+        Arrays.fill(finishTime, 0);
+        time = 0;
+    }
+
+    // keeps the given list instead of a copy, for graphs whose vertex list is a view that creates vertices on demand
+    static <T> SearchResult<T> over(List<Vertex<T>> vertices) {
+        return new SearchResult<>(vertices, vertices.size(), true);
+    }
+
+    int indexOf(Vertex<T> vertex) {
+        if (vertex == null) {
+            return -1;
+        }
+        if (onDemand) {
+            return vertices.indexOf(vertex);
+        }
+        int id = vertex.getId();
+        if (id >= 0 && id < vertices.size() && vertices.get(id) == vertex) {
+            return id;
+        }
+        // ids only drift for snapshots of a graph that changed afterwards
+        return vertices.indexOf(vertex);
+    }
+
+    Vertex<T> vertexAt(int index) {
+        return vertices.get(index);
+    }
+
+    // vertices in the order the query visited them
+    public ArrayList<Vertex<T>> getOrder() {
+        return order;
+    }
+
+    public boolean isReached(Vertex<T> vertex) {
+        return getColor(vertex) != Color.WHITE;
+    }
+
+    public Color getColor(Vertex<T> vertex) {
+        int index = indexOf(vertex);
+        return index == -1 ? Color.WHITE : color[index];
+    }
+
+    // number of edges for bfs, total weight for dijkstra, Integer.MAX_VALUE when not reached
+    public int getDistance(Vertex<T> vertex) {
+        int index = indexOf(vertex);
+        return index == -1 ? UNREACHED : distance[index];
+    }
+
+    public Vertex<T> getPredecessor(Vertex<T> vertex) {
+        int index = indexOf(vertex);
+        return index == -1 || predecessor[index] == -1 ? null : vertices.get(predecessor[index]);
+    }
+
+    public int getDiscoveryTime(Vertex<T> vertex) {
+        int index = indexOf(vertex);
+        return index == -1 ? 0 : discoveryTime[index];
+    }
+
+    public int getFinishTime(Vertex<T> vertex) {
+        int index = indexOf(vertex);
+        return index == -1 ? 0 : finishTime[index];
+    }
+
+    // path from the destination back to the source following the predecessors
+    public ArrayList<Vertex<T>> pathTo(Vertex<T> destination) {
+        ArrayList<Vertex<T>> path = new ArrayList<>();
+        path.add(destination);
+        int index = indexOf(destination);
+        if (index != -1) {
+            for (int v = predecessor[index]; v != -1; v = predecessor[v]) {
+                path.add(vertices.get(v));
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.pipegame.model;
+
+// picks the single-source shortest path algorithm from the range of edge weights in the graph
+final class ShortestPaths {
+
+    // above this the buckets of Dial's algorithm stop paying off against the heap
+    static final int DIAL_MAX_WEIGHT = 64;
+
+    private ShortestPaths() {
+    }
+
+    // minWeight and maxWeight only have to bound the weights, a graph without edges may pass an empty range.
+    // the bounds are only kept up to date by addEdge while Edge.setWeight is public, so the bucket engines
+    // check every weight they see and give up on one outside the range, then the heap runs from scratch
+    static <T> SearchResult<T> run(SearchResult<T> result, WeightedAdjacency graph, int source, int destination,
+                                   int minWeight, int maxWeight) {
+        if (source == -1) {
+            return result;
+        }
+        if (minWeight < 0 || maxWeight > DIAL_MAX_WEIGHT) {
+            return DijkstraEngine.run(result, graph, source, destination);
+        }
+        SearchResult<T> bucketed = maxWeight <= 1
+                ? ZeroOneBfsEngine.run(result, graph, source, destination)
+                : DialEngine.run(result, graph, source, destination, maxWeight);
+        if (bucketed != null) {
+            return bucketed;
+        }
+        result.reset();
+        return DijkstraEngine.run(result, graph, source, destination);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.pipegame.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// minimum spanning tree helpers shared by the graph classes, the trees get fresh vertices with the same
+// payloads and the i-th tree vertex mirrors the vertex with id i
+final class SpanningTrees {
+
+    private SpanningTrees() {
+    }
+
+    static <T> ArrayList<Vertex<T>> copyVertices(List<Vertex<T>> vertices, iGraph<T> tree) {
+        ArrayList<Vertex<T>> treeVertices = new ArrayList<>(vertices.size());
+        for (Vertex<T> vertex : vertices) {
+            Vertex<T> treeVertex = new Vertex<>(vertex.getData()); // Use new instances for the MST
+            tree.addVertex(treeVertex);
+            treeVertices.add(treeVertex);
+        }
+        return treeVertices;
+    }
+
+    // Prim's algorithm on an indexed heap holding, for every vertex next to the tree, its lightest edge into
+    // the tree; O(E log V), and it restarts from every vertex left out so disconnected graphs get a forest
+    static <T, G extends iGraph<T>> G prim(WeightedAdjacency graph, List<Vertex<T>> vertices, G tree) {
+        ArrayList<Vertex<T>> treeVertices = copyVertices(vertices, tree);
+        new PrimEngine<>(graph, treeVertices, tree).run();
+        return tree;
+    }
+
+    // kruskal over edges packed as (weight << 32) | edge index, so a plain sort of the longs orders them by
+    // weight and keeps equal weights in edge order
+    static <T, G extends iGraph<T>> G kruskal(EdgeArrays edges, List<Vertex<T>> vertices, G tree) {
+        ArrayList<Vertex<T>> treeVertices = copyVertices(vertices, tree);
+        long[] candidates = new long[edges.size()];
+        for (int e = 0; e < edges.size(); e++) {
+            candidates[e] = ((long) edges.weights[e] << 32) | e;
+        }
+        Arrays.sort(candidates);
+
+        UnionFind components = new UnionFind(vertices.size());
+        for (long candidate : candidates) {
+            int e = (int) candidate;
+            if (components.union(edges.sources[e], edges.destinations[e])) {
+                tree.addEdge(treeVertices.get(edges.sources[e]), treeVertices.get(edges.destinations[e]), edges.weights[e]);
+            }
+        }
+        return tree;
+    }
+
+    // same tree as kruskal, sorted and filtered in parallel by FilterKruskal
+    static <T, G extends iGraph<T>> G parallelKruskal(EdgeArrays edges, List<Vertex<T>> vertices, G tree, int parallelism) {
+        int[] chosen = FilterKruskal.run(edges.sources, edges.destinations, edges.weights, vertices.size(), parallelism);
+        ArrayList<Vertex<T>> treeVertices = copyVertices(vertices, tree);
+        for (int e : chosen) {
+            tree.addEdge(treeVertices.get(edges.sources[e]), treeVertices.get(edges.destinations[e]), edges.weights[e]);
+        }
+        return tree;
+    }
+
+    private static final class PrimEngine<T> implements NeighborVisitor {
+
+        private final WeightedAdjacency graph;
+        private final ArrayList<Vertex<T>> treeVertices;
+        private final iGraph<T> tree;
+        private final IndexedDaryHeap heap;
+        private final boolean[] inTree;
+        // endpoint inside the tree of the lightest known edge to each queued vertex
+        private final int[] parent;
+        private int current;
+
+        PrimEngine(WeightedAdjacency graph, ArrayList<Vertex<T>> treeVertices, iGraph<T> tree) {
+            this.graph = graph;
+            this.treeVertices = treeVertices;
+            this.tree = tree;
+            heap = new IndexedDaryHeap(treeVertices.size());
+            inTree = new boolean[treeVertices.size()];
+            parent = new int[treeVertices.size()];
+        }
+
+        void run() {
+            for (int root = 0; root < inTree.length; root++) {
+                if (inTree[root]) {
+                    continue;
+                }
+                inTree[root] = true;
+                current = root;
+                graph.forEachNeighbor(root, this);
+                while (!heap.isEmpty()) {
+                    int weight = (int) heap.key(heap.peek());
+                    current = heap.poll();
+                    inTree[current] = true;
+                    tree.addEdge(treeVertices.get(parent[current]), treeVertices.get(current), weight);
+                    graph.forEachNeighbor(current, this);
+                }
+            }
+        }
+
+        @Override
+        public void visit(int target, int weight) {
+            if (!inTree[target] && (!heap.contains(target) || weight < heap.key(target))) {
+                parent[target] = current;
+                heap.insertOrDecrease(target, weight);
+            }
+        }
+    }
+}
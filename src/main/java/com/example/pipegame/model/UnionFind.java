@@ -0,0 +1,72 @@
+package com.example.pipegame.model;
+
+// disjoint sets over the elements 0 .. count - 1, kept in int arrays: union by size keeps the trees
+// shallow and find halves the path it walks, so long chains never recurse
+public class UnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private int components;
+
+    public UnionFind(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of elements cannot be negative.");
+        }
+        parent = new int[count];
+        size = new int[count];
+        for (int i = 0; i < count; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        components = count;
+    }
+
+    public int find(int element) {
+        if (element < 0 || element >= parent.length) {
+            throw new IllegalArgumentException("Element not found in the disjoint set");
+        }
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]];
+            element = parent[element];
+        }
+        return element;
+    }
+
+    // same as find without shortening the path, so concurrent readers never write
+    int root(int element) {
+        while (parent[element] != element) {
+            element = parent[element];
+        }
+        return element;
+    }
+
+    // merges the sets of both elements, false when they already were in the same set
+    public boolean union(int first, int second) {
+        int root1 = find(first);
+        int root2 = find(second);
+        if (root1 == root2) {
+            return false;
+        }
+        if (size[root1] < size[root2]) {
+            int swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        parent[root2] = root1;
+        size[root1] += size[root2];
+        components--;
+        return true;
+    }
+
+    public boolean connected(int first, int second) {
+        return find(first) == find(second);
+    }
+
+    public int componentSize(int element) {
+        return size[find(element)];
+    }
+
+    public int componentCount() {
+        return components;
+    }
+}
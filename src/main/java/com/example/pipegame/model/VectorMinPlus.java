@@ -0,0 +1,33 @@
+package com.example.pipegame.model;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD version of FloydWarshall.relaxRow, only loaded when jdk.incubator.vector is available
+final class VectorMinPlus {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorMinPlus() {
+    }
+
+    static void relaxRow(int[] rowI, int[] rowK, int distIK, int from, int to) {
+        // value an overflowing sum saturates to, it only depends on the sign of the scalar operand
+        int saturated = distIK < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int j = from;
+        for (int upper = from + SPECIES.loopBound(to - from); j < upper; j += SPECIES.length()) {
+            IntVector distKJ = IntVector.fromArray(SPECIES, rowK, j);
+            IntVector sum = distKJ.add(distIK);
+            // signed overflow happened where the sum differs in sign from both operands
+            VectorMask<Integer> overflow = sum.lanewise(VectorOperators.XOR, distIK)
+                    .and(sum.lanewise(VectorOperators.XOR, distKJ))
+                    .compare(VectorOperators.LT, 0);
+            sum = sum.blend(saturated, overflow)
+                    .blend(Integer.MAX_VALUE, distKJ.compare(VectorOperators.EQ, Integer.MAX_VALUE));
+            IntVector.fromArray(SPECIES, rowI, j).min(sum).intoArray(rowI, j);
+        }
+        FloydWarshall.scalarRelaxRow(rowI, rowK, distIK, j, to);
+    }
+}
@@ -6,39 +6,38 @@ import java.util.ArrayList;
 public class Vertex<T> {
 
     private T data;
-    private Color color;
-    private int distance;
-    private Vertex<T> predecessor;
-    private int discoveryTime;
-    private int finishTime;
+    private int id;
     private ArrayList<Vertex<T>> neighbors;
+    private ArrayList<Edge<T>> incidentEdges;
+    private DataIndex<T> dataIndex;
 
     public Vertex(T data) {
         this.data = data;
-        this.color = Color.WHITE;
-        this.distance = Integer.MAX_VALUE;
-        this.predecessor = null;
+        this.id = -1;
         neighbors = new ArrayList<>();
+        incidentEdges = new ArrayList<>();
     }
 
     public void setData(T data) {
+        T oldData = this.data;
         this.data = data;
+        // keep the payload index of the graph that owns this vertex up to date; this takes no lock, a vertex of a
+        // ConcurrentGraph is changed through ConcurrentGraph.setData
+        if (dataIndex != null) {
+            dataIndex.changed(this, oldData);
+        }
     }
 
-    public int getDiscoveryTime() {
-        return discoveryTime;
+    void setDataIndex(DataIndex<T> dataIndex) {
+        this.dataIndex = dataIndex;
     }
 
-    public void setDiscoveryTime(int discoveryTime) {
-        this.discoveryTime = discoveryTime;
+    public int getId() {
+        return id;
     }
 
-    public int getFinishTime() {
-        return finishTime;
-    }
-
-    public void setFinishTime(int finishTime) {
-        this.finishTime = finishTime;
+    void setId(int id) {
+        this.id = id;
     }
 
     public ArrayList<Vertex<T>> getNeighbors() {
@@ -53,31 +52,19 @@ public class Vertex<T> {
         neighbors.remove(neighbor);
     }
 
-    public T getData() {
-        return data;
-    }
-
-    public Color getColor() {
-        return color;
+    public ArrayList<Edge<T>> getIncidentEdges() {
+        return incidentEdges;
     }
 
-    public void setColor(Color color) {
-        this.color = color;
+    public void addIncidentEdge(Edge<T> edge) {
+        incidentEdges.add(edge);
     }
 
-    public int getDistance() {
-        return distance;
+    public void removeIncidentEdge(Edge<T> edge) {
+        incidentEdges.remove(edge);
     }
 
-    public void setDistance(int distance) {
-        this.distance = distance;
-    }
-
-    public Vertex<T> getPredecessor() {
-        return predecessor;
-    }
-
-    public void setPredecessor(Vertex<T> predecessor) {
-        this.predecessor = predecessor;
+    public T getData() {
+        return data;
     }
 }
@@ -0,0 +1,34 @@
+package com.example.pipegame.model;
+
+// square weight matrix with spare capacity, 0 means there is no edge
+interface WeightMatrix {
+    int get(int row, int column);
+    void set(int row, int column, int weight);
+    int capacity();
+    void grow(int capacity, int size);
+    // zeroes the first size rows and columns
+    void clear(int size);
+
+    // smallest column from `from` on with a non-zero weight in the row, or size when there is none
+    default int nextNeighbor(int row, int from, int size) {
+        for (int column = from; column < size; column++) {
+            if (get(row, column) != 0) {
+                return column;
+            }
+        }
+        return size;
+    }
+
+    static WeightMatrix create(MatrixStorage storage, int capacity, boolean neighborIndex) {
+        WeightMatrix matrix = create(storage, capacity);
+        return neighborIndex ? new IndexedWeightMatrix(matrix) : matrix;
+    }
+
+    static WeightMatrix create(MatrixStorage storage, int capacity) {
+        switch (storage) {
+            case FLAT -> {return new FlatWeightMatrix(capacity);}
+            case BITS -> {return new BitWeightMatrix(capacity);}
+            default -> {return new RowsWeightMatrix(capacity);}
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.pipegame.model;
+
+// adjacency of a graph over dense vertex ids
+@FunctionalInterface
+interface WeightedAdjacency {
+    void forEachNeighbor(int vertex, NeighborVisitor visitor);
+}
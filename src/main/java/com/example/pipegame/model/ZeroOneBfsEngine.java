@@ -0,0 +1,96 @@
+package com.example.pipegame.model;
+
+// shortest paths when every weight is 0 or 1: weight 0 neighbors go to the front of a deque and
+// weight 1 neighbors to the back, so vertices leave the deque in order of distance in O(V + E)
+final class ZeroOneBfsEngine<T> implements NeighborVisitor {
+
+    private final SearchResult<T> result;
+    // circular int deque, a vertex can be queued again after its distance drops from d + 1 to d
+    private int[] deque;
+    private int head;
+    private int size;
+    private int current;
+    // set when an edge turned out not to weigh 0 or 1, the graph only tracks the weight range on addEdge
+    private boolean outOfRange;
+
+    private ZeroOneBfsEngine(SearchResult<T> result) {
+        this.result = result;
+        deque = new int[Math.max(result.distance.length, 1)];
+    }
+
+    // null when some visited weight is not 0 or 1, the result is then left half filled
+    static <T> SearchResult<T> run(SearchResult<T> result, WeightedAdjacency graph, int source, int destination) {
+        ZeroOneBfsEngine<T> engine = new ZeroOneBfsEngine<>(result);
+        engine.search(graph, source, destination);
+        return engine.outOfRange ? null : result;
+    }
+
+    private void search(WeightedAdjacency graph, int source, int destination) {
+        result.distance[source] = 0;
+        result.color[source] = Color.GRAY;
+        addLast(source);
+
+        while (size > 0) {
+            current = deque[head];
+            head = (head + 1) % deque.length;
+            size--;
+            if (result.color[current] == Color.BLACK) {
+                continue; // already settled through a weight 0 edge
+            }
+            result.color[current] = Color.BLACK;
+            result.order.add(result.vertexAt(current));
+            if (current == destination) {
+                break; // break the loop if the target vertex is reached
+            }
+            graph.forEachNeighbor(current, this);
+            if (outOfRange) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void visit(int target, int weight) {
+        if (weight < 0 || weight > 1) {
+            outOfRange = true;
+        }
+        if (outOfRange || result.color[target] == Color.BLACK) {
+            return;
+        }
+        int newDistance = result.distance[current] + weight;
+        if (newDistance < result.distance[target]) {
+            result.distance[target] = newDistance;
+            result.predecessor[target] = current;
+            result.color[target] = Color.GRAY;
+            if (weight == 0) {
+                addFirst(target);
+            } else {
+                addLast(target);
+            }
+        }
+    }
+
+    private void addFirst(int vertex) {
+        ensureCapacity();
+        head = (head - 1 + deque.length) % deque.length;
+        deque[head] = vertex;
+        size++;
+    }
+
+    private void addLast(int vertex) {
+        ensureCapacity();
+        deque[(head + size) % deque.length] = vertex;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == deque.length) {
+            int[] larger = new int[2 * deque.length];
+            for (int i = 0; i < size; i++) {
+                larger[i] = deque[(head + i) % deque.length];
+            }
+            deque = larger;
+            head = 0;
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.example.pipegame.model;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface iGraph<T> {
     void addVertex(Vertex<T> vertex);
@@ -11,11 +17,35 @@ public interface iGraph<T> {
     ArrayList<Vertex<T>> dfs(Vertex<T> startVertex);
     ArrayList<Vertex<T>> bfs(Vertex<T> startVertex);
     ArrayList<Vertex<T>> dijkstra(Vertex<T>  startVertex, Vertex<T> endVertex);
+    SearchResult<T> dfsSearch(Vertex<T> startVertex);
+    SearchResult<T> bfsSearch(Vertex<T> startVertex);
+    SearchResult<T> dijkstraSearch(Vertex<T> startVertex, Vertex<T> endVertex);
+    ArrayList<Vertex<T>> aStar(Vertex<T> startVertex, Vertex<T> endVertex, Heuristic<T> heuristic);
+    SearchResult<T> aStarSearch(Vertex<T> startVertex, Vertex<T> endVertex, Heuristic<T> heuristic);
+    ArrayList<Vertex<T>> bidirectionalBfs(Vertex<T> startVertex, Vertex<T> endVertex);
+    ArrayList<Vertex<T>> bidirectionalDijkstra(Vertex<T> startVertex, Vertex<T> endVertex);
+    boolean isReachable(Vertex<T> startVertex, Vertex<T> endVertex);
+    Iterator<Vertex<T>> bfsIterator(Vertex<T> startVertex);
+    Iterator<Vertex<T>> dfsIterator(Vertex<T> startVertex);
     int[][] floydWarshall();
+    int[][] parallelFloydWarshall(int parallelism);
     AdjacencyListGraph<T> primAL();
     AdjacencyListGraph<T> kruskalAL();
+    AdjacencyListGraph<T> parallelKruskalAL(int parallelism);
     AdjacencyMatrixGraph<T> primAM();
     AdjacencyMatrixGraph<T> kruskalAM();
     void removeAllEdges();
     ArrayList<Vertex<T>> getVertices();
+    List<Edge<T>> getAllEdges();
+
+    // lazy traversals, vertices are only discovered as the stream is consumed
+    default Stream<Vertex<T>> bfsStream(Vertex<T> startVertex) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(bfsIterator(startVertex),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    default Stream<Vertex<T>> dfsStream(Vertex<T> startVertex) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(dfsIterator(startVertex),
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
 }
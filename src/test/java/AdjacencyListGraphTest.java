@@ -1,6 +1,9 @@
 import com.example.pipegame.model.AdjacencyListGraph;
 import com.example.pipegame.model.AdjacencyMatrixGraph;
+import com.example.pipegame.model.Color;
+import com.example.pipegame.model.CsrGraph;
 import com.example.pipegame.model.Edge;
+import com.example.pipegame.model.SearchResult;
 import com.example.pipegame.model.Vertex;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,7 +11,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -426,6 +435,27 @@ public class AdjacencyListGraphTest {
         assertEquals(4, shortestPaths[0][2]); // Distance from A to C
     }
 
+    @Test
+    public void testParallelEdges() {
+        // Escenario interesante: findEdge keeps the first edge and the distances use the lightest one
+        Vertex<String> vertexA = new Vertex<>("A");
+        Vertex<String> vertexB = new Vertex<>("B");
+        AdjacencyListGraph<String> graph = new AdjacencyListGraph<>();
+        graph.addVertex(vertexA);
+        graph.addVertex(vertexB);
+        graph.addEdge(vertexA, vertexB, 2);
+        graph.addEdge(vertexA, vertexB, 5);
+
+        assertEquals(2, graph.findEdge(vertexA, vertexB).getWeight());
+        assertEquals(2, graph.floydWarshall()[0][1]);
+        assertEquals(2, graph.floydWarshall()[1][0]);
+        assertEquals(2, graph.dijkstraSearch(vertexA, vertexB).getDistance(vertexB));
+
+        graph.removeEdge(vertexA, vertexB);
+        assertEquals(5, graph.findEdge(vertexB, vertexA).getWeight());
+        assertEquals(5, graph.floydWarshall()[0][1]);
+    }
+
     @Test
     public void testFloydWarshallEdgeCases() {
         // Edge case: Empty graph
@@ -613,5 +643,542 @@ public class AdjacencyListGraphTest {
         assertEquals(3, countEdges(mstGraph));
     }
 
-}
+    @Test
+    public void testPrimMatchesKruskalOnRandomForest() {
+        // Escenario interesante: two random components, prim and kruskal must agree on the total weight
+        Random random = new Random(19);
+        List<Vertex<Integer>> vertices = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            vertices.add(vertex);
+            graph.addVertex(vertex);
+        }
+        for (int e = 0; e < 2000; e++) {
+            int half = random.nextInt(2) * 150;
+            graph.addEdge(vertices.get(half + random.nextInt(150)), vertices.get(half + random.nextInt(150)), random.nextInt(50));
+        }
+
+        AdjacencyListGraph<Integer> prim = graph.primAL();
+        AdjacencyListGraph<Integer> kruskal = graph.kruskalAL();
+
+        assertEquals(300, prim.getVertices().size());
+        assertEquals(countEdges(kruskal), countEdges(prim));
+        assertEquals(totalWeight(kruskal.getAllEdges()), totalWeight(prim.getAllEdges()));
+        assertEquals(totalWeight(kruskal.getAllEdges()), totalWeight(graph.primAM().getAllEdges()));
+        assertEquals(totalWeight(kruskal.getAllEdges()), totalWeight(graph.kruskalAM().getAllEdges()));
+    }
+
+    @Test
+    public void testParallelKruskalMatchesKruskal() {
+        // Escenario interesante: enough edges for filter-kruskal to split, with many repeated weights
+        Random random = new Random(20);
+        List<Vertex<Integer>> vertices = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            vertices.add(vertex);
+            graph.addVertex(vertex);
+        }
+        for (int e = 0; e < 40000; e++) {
+            graph.addEdge(vertices.get(random.nextInt(3000)), vertices.get(random.nextInt(3000)), random.nextInt(100) - 10);
+        }
+
+        AdjacencyListGraph<Integer> kruskal = graph.kruskalAL();
+        AdjacencyListGraph<Integer> parallel = graph.parallelKruskalAL(4);
+
+        assertEquals(3000, parallel.getVertices().size());
+        assertEquals(countEdges(kruskal), countEdges(parallel));
+        assertEquals(totalWeight(kruskal.getAllEdges()), totalWeight(parallel.getAllEdges()));
+        assertEquals(totalWeight(kruskal.getAllEdges()), totalWeight(new CsrGraph<>(graph).parallelKruskalAL(2).getAllEdges()));
+    }
+
+    @Test
+    public void testParallelKruskalLimits() {
+        // Escenario de límite
+        graph.addVertex(new Vertex<>(1));
+        assertEquals(0, countEdges(graph.parallelKruskalAL(1)));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelKruskalAL(0));
+    }
+
+    @Test
+    public void testForEachNeighbor() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex1, vertex2, 4);
+        graph.addEdge(vertex3, vertex2, 6);
+
+        List<Integer> visited = new ArrayList<>();
+        graph.forEachNeighbor(vertex2.getId(), (target, weight) -> {
+            visited.add(target);
+            visited.add(weight);
+        });
+
+        assertEquals(Arrays.asList(vertex1.getId(), 4, vertex3.getId(), 6), visited);
+        // Escenario de límite
+        assertThrows(IllegalArgumentException.class, () -> graph.forEachNeighbor(3, (target, weight) -> { }));
+    }
+
+    @Test
+    public void testRemoveAllEdges() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex1, vertex2, 70);
+        graph.addEdge(vertex1, vertex2, 5);
+        graph.addEdge(vertex2, vertex3, -2);
+        graph.addEdge(vertex3, vertex3, 1);
+
+        graph.removeAllEdges();
+
+        assertTrue(graph.getAllEdges().isEmpty());
+        assertTrue(vertex2.getNeighbors().isEmpty());
+        assertTrue(graph.getEdges(vertex3).isEmpty());
+        assertNull(graph.findEdge(vertex1, vertex2));
+        assertEquals(3, graph.getVertices().size());
+
+        // Escenario interesante: the graph is usable again and the old weights no longer count
+        graph.addEdge(vertex1, vertex3, 2);
+        assertEquals(Arrays.asList(vertex3, vertex1), graph.dijkstra(vertex1, vertex3));
+        assertEquals(2, graph.findEdge(vertex3, vertex1).getWeight());
+        assertEquals(1, graph.getAllEdges().size());
+    }
+
+    @Test
+    public void testMatrixSpanningTrees() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex1, vertex2, 4);
+        graph.addEdge(vertex2, vertex3, 1);
+        graph.addEdge(vertex1, vertex3, 2);
+
+        AdjacencyMatrixGraph<Integer> prim = graph.primAM();
+        AdjacencyMatrixGraph<Integer> kruskal = graph.kruskalAM();
+
+        assertEquals(3, prim.getVertices().size());
+        assertEquals(3, totalWeight(prim.getAllEdges()));
+        assertEquals(3, totalWeight(kruskal.getAllEdges()));
+    }
+
+    private <T> long totalWeight(List<Edge<T>> edges) {
+        long total = 0;
+        for (Edge<T> edge : edges) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    @Test
+    public void testGetEdgesIncident() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex1, vertex2, 4);
+        graph.addEdge(vertex3, vertex2, 6);
+
+        // the edge list of a vertex includes edges in which it is the destination
+        assertEquals(2, graph.getEdges(vertex2).size());
+        assertEquals(1, graph.getEdges(vertex3).size());
+
+        graph.removeEdge(vertex1, vertex2);
+        assertEquals(1, graph.getEdges(vertex2).size());
+        assertTrue(graph.getEdges(vertex1).isEmpty());
+
+        graph.removeVertex(vertex3);
+        assertTrue(graph.getEdges(vertex2).isEmpty());
+    }
+
+    @Test
+    public void testGetEdgesIsReadOnly() {
+        // Escenario de límite: the list cannot be changed and a vertex of another graph has no edges here
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addEdge(vertex1, vertex2, 4);
+        AdjacencyListGraph<Integer> other = new AdjacencyListGraph<>();
+        Vertex<Integer> foreign = new Vertex<>(1);
+        other.addVertex(foreign);
+        other.addVertex(new Vertex<>(2));
+        other.addEdge(foreign, other.findVertex(2), 1);
+
+        assertThrows(UnsupportedOperationException.class, () -> graph.getEdges(vertex1).clear());
+        assertTrue(graph.getEdges(foreign).isEmpty());
+        assertTrue(graph.getEdges(null).isEmpty());
+        assertEquals(4, graph.findEdge(vertex1, vertex2).getWeight());
+    }
 
+    @Test
+    public void testDijkstraReverseEdges() {
+        // edges added towards the source must still be traversed
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex2, vertex1, 1);
+        graph.addEdge(vertex3, vertex2, 1);
+
+        ArrayList<Vertex<Integer>> shortestPath = graph.dijkstra(vertex1, vertex3);
+
+        assertEquals(Arrays.asList(vertex3, vertex2, vertex1), shortestPath);
+    }
+
+    @Test
+    public void testFindEdgeBothDirections() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addEdge(vertex1, vertex2, 9);
+
+        // edges are undirected, so the lookup must not depend on the order of the endpoints
+        assertEquals(9, graph.findEdge(vertex2, vertex1).getWeight());
+        graph.removeEdge(vertex2, vertex1);
+        assertNull(graph.findEdge(vertex1, vertex2));
+    }
+
+    @Test
+    public void testRemoveParallelEdge() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addEdge(vertex1, vertex2, 3);
+        graph.addEdge(vertex1, vertex2, 5);
+
+        graph.removeEdge(vertex1, vertex2);
+
+        // the first edge goes and the remaining parallel edge is still reachable through the index
+        assertNotNull(graph.findEdge(vertex1, vertex2));
+        assertEquals(5, graph.findEdge(vertex1, vertex2).getWeight());
+    }
+
+    @Test
+    public void testFindVertexAfterSetData() {
+        Vertex<Integer> vertex = new Vertex<>(1);
+        graph.addVertex(vertex);
+
+        vertex.setData(2);
+
+        assertNull(graph.findVertex(1));
+        assertEquals(vertex, graph.findVertex(2));
+    }
+
+    @Test
+    public void testFindVertexWithEqualPayloads() {
+        // Escenario interesante: the other vertex with the same payload takes over when the found one goes
+        Vertex<Integer> first = new Vertex<>(7);
+        Vertex<Integer> second = new Vertex<>(7);
+        graph.addVertex(first);
+        graph.addVertex(second);
+        assertSame(first, graph.findVertex(7));
+
+        graph.removeVertex(first);
+        assertSame(second, graph.findVertex(7));
+
+        Vertex<Integer> third = new Vertex<>(7);
+        graph.addVertex(third);
+        second.setData(8);
+        assertSame(third, graph.findVertex(7));
+        assertSame(second, graph.findVertex(8));
+        first.setData(8);
+        assertSame(second, graph.findVertex(8));
+        // the last vertex with a payload takes the payload out of the index
+        third.setData(9);
+        assertNull(graph.findVertex(7));
+        assertSame(third, graph.findVertex(9));
+    }
+
+    @Test
+    public void testRemoveVertexKeepsIdsDense() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex2, vertex3, 4);
+
+        graph.removeVertex(vertex1);
+
+        // the last vertex takes the freed id and its edges stay reachable
+        assertEquals(0, vertex3.getId());
+        assertEquals(1, vertex2.getId());
+        assertEquals(-1, vertex1.getId());
+        assertEquals(4, graph.findEdge(vertex3, vertex2).getWeight());
+    }
+
+    @Test
+    public void testParallelFloydWarshall() {
+        Random random = new Random(5);
+        for (int i = 0; i < 150; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        for (int e = 0; e < 600; e++) {
+            graph.addEdge(graph.getVertices().get(random.nextInt(150)), graph.getVertices().get(random.nextInt(150)), 1 + random.nextInt(9));
+        }
+
+        assertArrayEquals(graph.floydWarshall(), graph.parallelFloydWarshall(3));
+    }
+
+    @Test
+    public void testSearchResultsStandard() {
+        // Escenario estándar: the traversal state is reported by the result, per query
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        Vertex<Integer> vertex4 = new Vertex<>(4);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addVertex(vertex4);
+        graph.addEdge(vertex1, vertex2, 5);
+        graph.addEdge(vertex2, vertex3, 1);
+        graph.addEdge(vertex1, vertex3, 9);
+
+        SearchResult<Integer> bfs = graph.bfsSearch(vertex1);
+        assertEquals(1, bfs.getDistance(vertex3));
+        assertEquals(vertex1, bfs.getPredecessor(vertex3));
+        assertFalse(bfs.isReached(vertex4));
+        assertEquals(Integer.MAX_VALUE, bfs.getDistance(vertex4));
+
+        SearchResult<Integer> dfs = graph.dfsSearch(vertex1);
+        assertEquals(1, dfs.getDiscoveryTime(vertex1));
+        assertEquals(2, dfs.getDiscoveryTime(vertex2));
+        assertEquals(3, dfs.getDiscoveryTime(vertex3));
+        assertEquals(4, dfs.getFinishTime(vertex3));
+        assertEquals(6, dfs.getFinishTime(vertex1));
+        assertEquals(Color.BLACK, dfs.getColor(vertex2));
+        assertEquals(Color.WHITE, dfs.getColor(vertex4));
+
+        SearchResult<Integer> dijkstra = graph.dijkstraSearch(vertex1, null);
+        assertEquals(6, dijkstra.getDistance(vertex3));
+        assertEquals(Arrays.asList(vertex3, vertex2, vertex1), dijkstra.pathTo(vertex3));
+    }
+
+    @Test
+    public void testConcurrentQueries() throws Exception {
+        // Escenario interesante: read-only queries from many threads do not interfere
+        int size = 60;
+        for (int i = 0; i < size * size; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        List<Vertex<Integer>> cells = graph.getVertices();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (col + 1 < size) {
+                    graph.addEdge(cells.get(row * size + col), cells.get(row * size + col + 1), 1);
+                }
+                if (row + 1 < size) {
+                    graph.addEdge(cells.get(row * size + col), cells.get((row + 1) * size + col), 1);
+                }
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> distances = new ArrayList<>();
+            for (int q = 0; q < 32; q++) {
+                Vertex<Integer> source = cells.get(q);
+                distances.add(executor.submit(() -> graph.dijkstra(source, cells.get(size * size - 1)).size()));
+            }
+            for (int q = 0; q < 32; q++) {
+                // from (0, q) to the opposite corner there are 2 * (size - 1) - q steps
+                assertEquals(2 * (size - 1) - q + 1, distances.get(q).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDijkstraMatchesFloydWarshall() {
+        Random random = new Random(21);
+        for (int i = 0; i < 120; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        for (int e = 0; e < 500; e++) {
+            graph.addEdge(graph.getVertices().get(random.nextInt(120)), graph.getVertices().get(random.nextInt(120)), 1 + random.nextInt(20));
+        }
+        // the snapshot keeps the lightest of parallel edges, like dijkstra does
+        int[][] expected = new CsrGraph<>(graph).floydWarshall();
+
+        for (int source = 0; source < 120; source += 7) {
+            SearchResult<Integer> result = graph.dijkstraSearch(graph.getVertices().get(source), null);
+            for (int target = 0; target < 120; target++) {
+                assertEquals(expected[source][target], result.getDistance(graph.getVertices().get(target)));
+            }
+        }
+    }
+
+    @Test
+    public void testBidirectionalSearchesStandard() {
+        // Escenario estándar: both searches agree with the one-sided ones on a random simple graph
+        Random random = new Random(8);
+        int size = 200;
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        List<Vertex<Integer>> vertices = graph.getVertices();
+        for (int e = 0; e < 320; e++) {
+            Vertex<Integer> u = vertices.get(random.nextInt(size));
+            Vertex<Integer> v = vertices.get(random.nextInt(size));
+            if (u != v && graph.findEdge(u, v) == null) {
+                graph.addEdge(u, v, 1 + random.nextInt(100));
+            }
+        }
+
+        for (int q = 0; q < 100; q++) {
+            Vertex<Integer> source = vertices.get(random.nextInt(size));
+            Vertex<Integer> destination = vertices.get(random.nextInt(size));
+            SearchResult<Integer> hops = graph.bfsSearch(source);
+            SearchResult<Integer> weighted = graph.dijkstraSearch(source, null);
+
+            ArrayList<Vertex<Integer>> bfsPath = graph.bidirectionalBfs(source, destination);
+            ArrayList<Vertex<Integer>> dijkstraPath = graph.bidirectionalDijkstra(source, destination);
+
+            assertEquals(destination, bfsPath.get(0));
+            assertEquals(destination, dijkstraPath.get(0));
+            if (!hops.isReached(destination)) {
+                assertEquals(1, bfsPath.size());
+                assertEquals(1, dijkstraPath.size());
+                continue;
+            }
+            assertEquals(source, bfsPath.get(bfsPath.size() - 1));
+            assertEquals(source, dijkstraPath.get(dijkstraPath.size() - 1));
+            assertEquals(hops.getDistance(destination), bfsPath.size() - 1);
+            int weight = 0;
+            for (int i = 0; i + 1 < dijkstraPath.size(); i++) {
+                Edge<Integer> edge = graph.findEdge(dijkstraPath.get(i), dijkstraPath.get(i + 1));
+                assertNotNull(edge);
+                weight += edge.getWeight();
+            }
+            assertEquals(weighted.getDistance(destination), weight);
+        }
+    }
+
+    @Test
+    public void testBidirectionalSearchesEdgeCases() {
+        // Escenario de límite: same endpoints, vertices outside the graph and a negative edge
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex1, vertex2, 4);
+
+        assertEquals(List.of(vertex1), graph.bidirectionalBfs(vertex1, vertex1));
+        assertEquals(List.of(vertex1), graph.bidirectionalDijkstra(vertex1, vertex1));
+        Vertex<Integer> outsider = new Vertex<>(9);
+        assertEquals(List.of(outsider), graph.bidirectionalBfs(vertex1, outsider));
+        assertEquals(List.of(vertex2), graph.bidirectionalDijkstra(outsider, vertex2));
+
+        graph.addEdge(vertex2, vertex3, -1);
+        assertEquals(graph.dijkstra(vertex1, vertex3), graph.bidirectionalDijkstra(vertex1, vertex3));
+    }
+
+    @Test
+    public void testIsReachableStandard() {
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        Vertex<Integer> vertex4 = new Vertex<>(4);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addVertex(vertex4);
+        graph.addEdge(vertex1, vertex2, 1);
+        graph.addEdge(vertex3, vertex2, 1);
+
+        assertTrue(graph.isReachable(vertex1, vertex3));
+        assertTrue(graph.isReachable(vertex3, vertex1));
+        assertFalse(graph.isReachable(vertex1, vertex4));
+        // Escenario de límite: a vertex reaches itself, vertices outside the graph reach nothing
+        assertTrue(graph.isReachable(vertex4, vertex4));
+        assertFalse(graph.isReachable(vertex1, new Vertex<>(5)));
+        assertFalse(graph.isReachable(null, vertex1));
+    }
+
+    @Test
+    public void testLazyTraversalsMatchEager() {
+        Random random = new Random(17);
+        for (int i = 0; i < 300; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        for (int e = 0; e < 450; e++) {
+            graph.addEdge(graph.getVertices().get(random.nextInt(300)), graph.getVertices().get(random.nextInt(300)), 1);
+        }
+
+        for (int s = 0; s < 300; s += 37) {
+            Vertex<Integer> source = graph.getVertices().get(s);
+            assertEquals(graph.bfs(source), graph.bfsStream(source).toList());
+            assertEquals(graph.dfs(source), graph.dfsStream(source).toList());
+        }
+    }
+
+    @Test
+    public void testLazyTraversalsShortCircuit() {
+        // Escenario interesante: the stream stops at the first match and the iterator ends cleanly
+        Vertex<Integer> previous = null;
+        for (int i = 0; i < 1000; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            graph.addVertex(vertex);
+            if (previous != null) {
+                graph.addEdge(previous, vertex, 1);
+            }
+            previous = vertex;
+        }
+        Vertex<Integer> first = graph.getVertices().get(0);
+
+        assertTrue(graph.bfsStream(first).anyMatch(vertex -> vertex.getData() == 10));
+        assertEquals(5, graph.dfsStream(first).takeWhile(vertex -> vertex.getData() < 5).count());
+
+        Iterator<Vertex<Integer>> iterator = graph.bfsIterator(previous);
+        int visited = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            visited++;
+        }
+        assertEquals(1000, visited);
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertFalse(graph.dfsIterator(new Vertex<>(-1)).hasNext());
+    }
+
+    @Test
+    public void testDfsOnLongChain() {
+        // Escenario de límite: a path this long overflowed the call stack of the recursive version
+        int size = 200_000;
+        Vertex<Integer> previous = null;
+        for (int i = 0; i < size; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            graph.addVertex(vertex);
+            if (previous != null) {
+                graph.addEdge(previous, vertex, 1);
+            }
+            previous = vertex;
+        }
+        Vertex<Integer> first = graph.getVertices().get(0);
+
+        SearchResult<Integer> result = graph.dfsSearch(first);
+
+        assertEquals(size, result.getOrder().size());
+        assertEquals(size, result.getDiscoveryTime(previous));
+        assertEquals(size + 1, result.getFinishTime(previous));
+        assertEquals(2 * size, result.getFinishTime(first));
+    }
+}
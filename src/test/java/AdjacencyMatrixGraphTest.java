@@ -1,12 +1,18 @@
 import com.example.pipegame.model.AdjacencyListGraph;
 import com.example.pipegame.model.AdjacencyMatrixGraph;
+import com.example.pipegame.model.CsrGraph;
 import com.example.pipegame.model.Edge;
+import com.example.pipegame.model.MatrixStorage;
+import com.example.pipegame.model.SearchResult;
 import com.example.pipegame.model.Vertex;
+import com.example.pipegame.model.iGraph;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -506,9 +512,10 @@ public class AdjacencyMatrixGraphTest {
 
     private <T> int countEdges(AdjacencyMatrixGraph<T> graph) {
         int edgeCount = 0;
-        for (int i = 0; i < graph.getVertices().size(); i++) {
-            for (int j = i + 1; j < graph.getVertices().size(); j++) {
-                if (graph.getAdjacencyMatrix()[i][j] != 0) {
+        int[][] matrix = graph.getAdjacencyMatrix();
+        for (int i = 0; i < matrix.length; i++) {
+            for (int j = i + 1; j < matrix.length; j++) {
+                if (matrix[i][j] != 0) {
                     // Edge exists between vertices i and j
                     edgeCount++;
                 }
@@ -620,4 +627,374 @@ public class AdjacencyMatrixGraphTest {
         assertEquals(4, mstGraph.getVertices().size()); // MST debería tener 4 nodos
         assertEquals(3, countEdges(mstGraph));
     }
+
+    @Test
+    public void testFindVertexAfterSetData() {
+        AdjacencyMatrixGraph<String> graph = new AdjacencyMatrixGraph<>();
+        Vertex<String> vertexA = new Vertex<>("A");
+        graph.addVertex(vertexA);
+
+        vertexA.setData("B");
+
+        assertNull(graph.findVertex("A"));
+        assertEquals(vertexA, graph.findVertex("B"));
+    }
+
+    @Test
+    public void testFindVertexWithEqualPayloads() {
+        AdjacencyMatrixGraph<String> graph = new AdjacencyMatrixGraph<>();
+        Vertex<String> first = new Vertex<>("x");
+        Vertex<String> second = new Vertex<>("x");
+        graph.addVertex(first);
+        graph.addVertex(second);
+
+        graph.removeVertex(first);
+
+        assertSame(second, graph.findVertex("x"));
+    }
+
+    @Test
+    public void testRemoveVertexKeepsEdges() {
+        AdjacencyMatrixGraph<String> graph = new AdjacencyMatrixGraph<>();
+        Vertex<String> vertexA = new Vertex<>("A");
+        Vertex<String> vertexB = new Vertex<>("B");
+        Vertex<String> vertexC = new Vertex<>("C");
+        graph.addVertex(vertexA);
+        graph.addVertex(vertexB);
+        graph.addVertex(vertexC);
+        graph.addEdge(vertexB, vertexC, 7);
+
+        graph.removeVertex(vertexA);
+
+        assertEquals(7, graph.findEdge(vertexB, vertexC).getWeight());
+        assertNull(graph.findEdge(vertexA, vertexB));
+        assertEquals(vertexB, graph.getVertices().get(vertexB.getId()));
+        assertEquals(vertexC, graph.getVertices().get(vertexC.getId()));
+    }
+
+    @Test
+    public void testAddVertexBeyondExpectedSize() {
+        // the matrix grows past the pre-sized capacity and keeps existing edges
+        AdjacencyMatrixGraph<Integer> graph = new AdjacencyMatrixGraph<>(2);
+        ArrayList<Vertex<Integer>> added = new ArrayList<>();
+        for (int i = 0; i < 225; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            graph.addVertex(vertex);
+            if (i > 0) {
+                graph.addEdge(added.get(i - 1), vertex, i);
+            }
+            added.add(vertex);
+        }
+
+        assertEquals(225, graph.getVertices().size());
+        assertEquals(225, graph.getAdjacencyMatrix().length);
+        assertEquals(1, graph.findEdge(added.get(0), added.get(1)).getWeight());
+        assertEquals(224, graph.findEdge(added.get(224), added.get(223)).getWeight());
+        assertEquals(224, countEdges(graph));
+    }
+
+    @Test
+    public void testRemoveVertexSwapsLastRow() {
+        AdjacencyMatrixGraph<Character> graph = new AdjacencyMatrixGraph<>(4);
+        Vertex<Character> vertexA = new Vertex<>('A');
+        Vertex<Character> vertexB = new Vertex<>('B');
+        Vertex<Character> vertexC = new Vertex<>('C');
+        Vertex<Character> vertexD = new Vertex<>('D');
+        graph.addVertex(vertexA);
+        graph.addVertex(vertexB);
+        graph.addVertex(vertexC);
+        graph.addVertex(vertexD);
+        graph.addEdge(vertexA, vertexD, 1);
+        graph.addEdge(vertexB, vertexD, 2);
+        graph.addEdge(vertexD, vertexD, 3);
+
+        graph.removeVertex(vertexA);
+
+        // D takes the row of A, keeping its edges and its loop
+        assertEquals(vertexD, graph.getVertices().get(0));
+        assertEquals(3, graph.getVertices().size());
+        assertEquals(2, graph.findEdge(vertexB, vertexD).getWeight());
+        assertEquals(3, graph.findEdge(vertexD, vertexD).getWeight());
+        assertNull(graph.findEdge(vertexC, vertexD));
+        assertEquals(1, countEdges(graph));
+    }
+
+    @Test
+    public void testPrimMatchesKruskal() {
+        // Escenario interesante: every tree variant must reach the same minimum total weight
+        AdjacencyMatrixGraph<Integer> graph = randomGraph(MatrixStorage.ROWS, 200, 19);
+        graph.addVertex(new Vertex<>(200)); // isolated, the trees still keep it
+
+        AdjacencyMatrixGraph<Integer> prim = graph.primAM();
+        long expected = totalWeight(graph.kruskalAM());
+
+        assertEquals(201, prim.getVertices().size());
+        assertEquals(countEdges(graph.kruskalAM()), countEdges(prim));
+        assertEquals(expected, totalWeight(prim));
+        assertEquals(expected, totalWeight(graph.primAL()));
+        assertEquals(expected, totalWeight(graph.kruskalAL()));
+        assertEquals(201, graph.kruskalAL().getVertices().size());
+        assertEquals(expected, totalWeight(graph.parallelKruskalAL(2)));
+    }
+
+    private <T> long totalWeight(iGraph<T> graph) {
+        long total = 0;
+        for (Edge<T> edge : graph.getAllEdges()) {
+            total += edge.getWeight();
+        }
+        return total;
+    }
+
+    private AdjacencyMatrixGraph<Integer> randomGraph(MatrixStorage storage, int size, long seed) {
+        AdjacencyMatrixGraph<Integer> graph = new AdjacencyMatrixGraph<>(0, storage);
+        Random random = new Random(seed);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        for (int e = 0; e < size * 3; e++) {
+            Vertex<Integer> source = graph.getVertices().get(random.nextInt(size));
+            Vertex<Integer> destination = graph.getVertices().get(random.nextInt(size));
+            if (source != destination) {
+                graph.addEdge(source, destination, 1 + random.nextInt(20));
+            }
+        }
+        return graph;
+    }
+
+    @Test
+    public void testFlatStorageStandard() {
+        AdjacencyMatrixGraph<String> graph = new AdjacencyMatrixGraph<>(1, MatrixStorage.FLAT);
+        Vertex<String> vertexA = new Vertex<>("A");
+        Vertex<String> vertexB = new Vertex<>("B");
+        Vertex<String> vertexC = new Vertex<>("C");
+        graph.addVertex(vertexA);
+        graph.addVertex(vertexB);
+        graph.addVertex(vertexC);
+        graph.addEdge(vertexA, vertexB, 2);
+        graph.addEdge(vertexB, vertexC, 4);
+        graph.removeVertex(vertexA);
+
+        assertEquals(4, graph.findEdge(vertexC, vertexB).getWeight());
+        assertNull(graph.findEdge(vertexA, vertexB));
+        assertEquals(2, graph.bfs(vertexB).size());
+    }
+
+    @Test
+    public void testFlatStorageMatchesRows() {
+        AdjacencyMatrixGraph<Integer> rows = randomGraph(MatrixStorage.ROWS, 100, 7);
+        AdjacencyMatrixGraph<Integer> flat = randomGraph(MatrixStorage.FLAT, 100, 7);
+
+        assertArrayEquals(rows.getAdjacencyMatrix(), flat.getAdjacencyMatrix());
+        assertArrayEquals(rows.floydWarshall(), flat.floydWarshall());
+    }
+
+    @Test
+    public void testBitStorageMatchesRows() {
+        // Escenario interesante: unit weights over several words per row, and growth past the initial capacity
+        Random random = new Random(21);
+        AdjacencyMatrixGraph<Integer> rows = new AdjacencyMatrixGraph<>(0, MatrixStorage.ROWS);
+        AdjacencyMatrixGraph<Integer> bits = new AdjacencyMatrixGraph<>(0, MatrixStorage.BITS);
+        for (int i = 0; i < 150; i++) {
+            rows.addVertex(new Vertex<>(i));
+            bits.addVertex(new Vertex<>(i));
+        }
+        for (int e = 0; e < 400; e++) {
+            int source = random.nextInt(150);
+            int destination = random.nextInt(150);
+            rows.addEdge(rows.getVertices().get(source), rows.getVertices().get(destination), 1);
+            bits.addEdge(bits.getVertices().get(source), bits.getVertices().get(destination), 1);
+        }
+        rows.removeVertex(rows.getVertices().get(10));
+        bits.removeVertex(bits.getVertices().get(10));
+
+        assertArrayEquals(rows.getAdjacencyMatrix(), bits.getAdjacencyMatrix());
+        for (int s = 0; s < 149; s += 7) {
+            SearchResult<Integer> expected = rows.bfsSearch(rows.getVertices().get(s));
+            SearchResult<Integer> actual = bits.bfsSearch(bits.getVertices().get(s));
+            assertEquals(dataOf(expected.getOrder()), dataOf(actual.getOrder()));
+            for (int v = 0; v < 149; v++) {
+                assertEquals(expected.getDistance(rows.getVertices().get(v)), actual.getDistance(bits.getVertices().get(v)));
+            }
+            assertEquals(dataOf(rows.dijkstra(rows.getVertices().get(s), rows.getVertices().get(148))),
+                    dataOf(bits.dijkstra(bits.getVertices().get(s), bits.getVertices().get(148))));
+        }
+    }
+
+    @Test
+    public void testNeighborIndexMatchesScan() {
+        // Escenario interesante: edges added, overwritten and removed, vertices removed and the matrix grown
+        for (MatrixStorage storage : MatrixStorage.values()) {
+            Random random = new Random(22);
+            AdjacencyMatrixGraph<Integer> plain = new AdjacencyMatrixGraph<>(0, storage);
+            AdjacencyMatrixGraph<Integer> indexed = new AdjacencyMatrixGraph<>(0, storage, true);
+            for (int i = 0; i < 130; i++) {
+                plain.addVertex(new Vertex<>(i));
+                indexed.addVertex(new Vertex<>(i));
+            }
+            for (int e = 0; e < 600; e++) {
+                int source = random.nextInt(plain.getVertices().size());
+                int destination = random.nextInt(plain.getVertices().size());
+                int weight = storage == MatrixStorage.BITS ? random.nextInt(2) : random.nextInt(10);
+                plain.addEdge(plain.getVertices().get(source), plain.getVertices().get(destination), weight);
+                indexed.addEdge(indexed.getVertices().get(source), indexed.getVertices().get(destination), weight);
+                if (e % 50 == 0) {
+                    plain.removeVertex(plain.getVertices().get(source));
+                    indexed.removeVertex(indexed.getVertices().get(source));
+                }
+            }
+
+            assertArrayEquals(plain.getAdjacencyMatrix(), indexed.getAdjacencyMatrix());
+            assertEquals(plain.getAllEdges().size(), indexed.getAllEdges().size());
+            int last = plain.getVertices().size() - 1;
+            for (int s = 0; s <= last; s += 5) {
+                Vertex<Integer> plainSource = plain.getVertices().get(s);
+                Vertex<Integer> indexedSource = indexed.getVertices().get(s);
+                assertEquals(dataOf(plain.bfs(plainSource)), dataOf(indexed.bfs(indexedSource)));
+                assertEquals(dataOf(plain.dfs(plainSource)), dataOf(indexed.dfs(indexedSource)));
+                assertEquals(dataOf(plain.dijkstra(plainSource, plain.getVertices().get(last))),
+                        dataOf(indexed.dijkstra(indexedSource, indexed.getVertices().get(last))));
+            }
+        }
+    }
+
+    @Test
+    public void testForEachNeighbor() {
+        AdjacencyMatrixGraph<Integer> graph = randomGraph(MatrixStorage.ROWS, 80, 23);
+        int[][] matrix = graph.getAdjacencyMatrix();
+
+        for (int v = 0; v < 80; v++) {
+            int[] row = new int[80];
+            graph.forEachNeighbor(v, (target, weight) -> row[target] = weight);
+            assertArrayEquals(matrix[v], row);
+        }
+        // Escenario de límite
+        assertThrows(IllegalArgumentException.class, () -> graph.forEachNeighbor(-1, (target, weight) -> { }));
+    }
+
+    @Test
+    public void testRemoveAllEdges() {
+        // Escenario interesante: every storage, with and without the neighbor index, is empty and reusable afterwards
+        for (MatrixStorage storage : MatrixStorage.values()) {
+            for (boolean neighborIndex : new boolean[]{false, true}) {
+                AdjacencyMatrixGraph<Integer> graph = new AdjacencyMatrixGraph<>(0, storage, neighborIndex);
+                for (int i = 0; i < 70; i++) {
+                    graph.addVertex(new Vertex<>(i));
+                }
+                for (int i = 0; i + 1 < 70; i++) {
+                    graph.addEdge(graph.getVertices().get(i), graph.getVertices().get(i + 1), 1);
+                }
+
+                graph.removeAllEdges();
+
+                assertTrue(graph.getAllEdges().isEmpty());
+                assertEquals(0, countEdges(graph));
+                assertEquals(1, graph.bfs(graph.getVertices().get(0)).size());
+                graph.addEdge(graph.getVertices().get(0), graph.getVertices().get(69), 1);
+                assertEquals(2, graph.bfs(graph.getVertices().get(69)).size());
+            }
+        }
+    }
+
+    @Test
+    public void testBitStorageRejectsWeights() {
+        // Escenario de límite
+        AdjacencyMatrixGraph<String> graph = new AdjacencyMatrixGraph<>(2, MatrixStorage.BITS);
+        Vertex<String> vertexA = new Vertex<>("A");
+        Vertex<String> vertexB = new Vertex<>("B");
+        graph.addVertex(vertexA);
+        graph.addVertex(vertexB);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(vertexA, vertexB, 2));
+        assertNull(graph.findEdge(vertexA, vertexB));
+        graph.addEdge(vertexA, vertexB, 1);
+        assertEquals(1, graph.findEdge(vertexB, vertexA).getWeight());
+    }
+
+    private List<Integer> dataOf(List<Vertex<Integer>> vertices) {
+        List<Integer> data = new ArrayList<>();
+        for (Vertex<Integer> vertex : vertices) {
+            data.add(vertex.getData());
+        }
+        return data;
+    }
+
+    @Test
+    public void testFloydWarshallAcrossTiles() {
+        // more vertices than one tile, checked against the plain triple loop
+        AdjacencyMatrixGraph<Integer> graph = randomGraph(MatrixStorage.FLAT, 150, 11);
+        int[][] expected = graph.getAdjacencyMatrix();
+        for (int i = 0; i < expected.length; i++) {
+            for (int j = 0; j < expected.length; j++) {
+                expected[i][j] = i == j ? 0 : expected[i][j] == 0 ? Integer.MAX_VALUE : expected[i][j];
+            }
+        }
+        for (int k = 0; k < expected.length; k++) {
+            for (int i = 0; i < expected.length; i++) {
+                for (int j = 0; j < expected.length; j++) {
+                    if (expected[i][k] != Integer.MAX_VALUE && expected[k][j] != Integer.MAX_VALUE) {
+                        expected[i][j] = Math.min(expected[i][j], expected[i][k] + expected[k][j]);
+                    }
+                }
+            }
+        }
+
+        assertArrayEquals(expected, graph.floydWarshall());
+        assertArrayEquals(expected, new CsrGraph<>(graph).floydWarshall());
+    }
+
+    @Test
+    public void testParallelFloydWarshall() {
+        AdjacencyMatrixGraph<Integer> graph = randomGraph(MatrixStorage.ROWS, 200, 3);
+
+        assertArrayEquals(graph.floydWarshall(), graph.parallelFloydWarshall(4));
+        assertArrayEquals(graph.floydWarshall(), graph.parallelFloydWarshall(1));
+        assertThrows(IllegalArgumentException.class, () -> graph.parallelFloydWarshall(0));
+    }
+
+    @Test
+    public void testIsReachableMatchesBfs() {
+        // Escenario interesante: more than 64 vertices, so the visited bits span several words
+        Random random = new Random(4);
+        AdjacencyMatrixGraph<Integer> graph = new AdjacencyMatrixGraph<>();
+        for (int i = 0; i < 150; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        for (int e = 0; e < 120; e++) {
+            graph.addEdge(graph.getVertices().get(random.nextInt(150)), graph.getVertices().get(random.nextInt(150)), 1);
+        }
+
+        for (int s = 0; s < 150; s += 13) {
+            Vertex<Integer> source = graph.getVertices().get(s);
+            ArrayList<Vertex<Integer>> reachable = graph.bfs(source);
+            for (Vertex<Integer> target : graph.getVertices()) {
+                assertEquals(reachable.contains(target), graph.isReachable(source, target));
+            }
+        }
+    }
+
+    @Test
+    public void testLazyTraversalsMatchEager() {
+        AdjacencyMatrixGraph<Integer> graph = randomGraph(MatrixStorage.ROWS, 120, 9);
+
+        for (Vertex<Integer> source : graph.getVertices()) {
+            assertEquals(graph.bfs(source), graph.bfsStream(source).toList());
+            assertEquals(graph.dfs(source), graph.dfsStream(source).toList());
+        }
+    }
+
+    @Test
+    public void testDfsTimesMatchSnapshot() {
+        AdjacencyMatrixGraph<Integer> graph = randomGraph(MatrixStorage.FLAT, 90, 12);
+        CsrGraph<Integer> csr = new CsrGraph<>(graph);
+
+        for (Vertex<Integer> source : graph.getVertices()) {
+            SearchResult<Integer> expected = csr.dfsSearch(source);
+            SearchResult<Integer> actual = graph.dfsSearch(source);
+            for (Vertex<Integer> vertex : graph.getVertices()) {
+                assertEquals(expected.getDiscoveryTime(vertex), actual.getDiscoveryTime(vertex));
+                assertEquals(expected.getFinishTime(vertex), actual.getFinishTime(vertex));
+                assertEquals(expected.getPredecessor(vertex), actual.getPredecessor(vertex));
+            }
+        }
+    }
 }
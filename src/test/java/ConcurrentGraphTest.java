@@ -0,0 +1,119 @@
+import com.example.pipegame.model.AdjacencyListGraph;
+import com.example.pipegame.model.AdjacencyMatrixGraph;
+import com.example.pipegame.model.ConcurrentGraph;
+import com.example.pipegame.model.Vertex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentGraphTest {
+
+    @Test
+    public void testDelegatesStandard() {
+        // Escenario estándar: the wrapper behaves like the wrapped graph
+        ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(new AdjacencyListGraph<>());
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        Vertex<Integer> vertex3 = new Vertex<>(3);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addVertex(vertex3);
+        graph.addEdge(vertex1, vertex2, 2);
+        graph.addEdge(vertex2, vertex3, 2);
+
+        assertEquals(vertex2, graph.findVertex(2));
+        assertEquals(Arrays.asList(vertex1, vertex2, vertex3), graph.bfs(vertex1));
+        assertEquals(Arrays.asList(vertex3, vertex2, vertex1), graph.dijkstra(vertex1, vertex3));
+        assertEquals(2, graph.getAllEdges().size());
+
+        graph.removeAllEdges();
+        assertEquals(1, graph.bfs(vertex1).size());
+    }
+
+    @Test
+    public void testNullGraph() {
+        // Escenario de límite
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentGraph<Integer>(null));
+    }
+
+    @Test
+    public void testGetVerticesIsSnapshot() {
+        ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(new AdjacencyMatrixGraph<>());
+        graph.addVertex(new Vertex<>(1));
+        ArrayList<Vertex<Integer>> vertices = graph.getVertices();
+
+        graph.addVertex(new Vertex<>(2));
+
+        assertEquals(1, vertices.size());
+        assertEquals(2, graph.getVertices().size());
+    }
+
+    @Test
+    public void testSetDataUpdatesIndex() {
+        // Escenario estándar: a payload changed through the wrapper is found by its new value only
+        ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(new AdjacencyListGraph<>());
+        Vertex<Integer> vertex = new Vertex<>(1);
+        graph.addVertex(vertex);
+
+        graph.setData(vertex, 7);
+
+        assertEquals(7, vertex.getData());
+        assertNull(graph.findVertex(1));
+        assertSame(vertex, graph.findVertex(7));
+        assertThrows(IllegalArgumentException.class, () -> graph.setData(null, 1));
+    }
+
+    @Test
+    public void testReadersWhileWriting() throws Exception {
+        // Escenario interesante: a writer rebuilds a chain 0-1-2-... edge by edge while readers traverse it,
+        // every traversal must see the chain after some whole number of writes
+        int size = 200;
+        ConcurrentGraph<Integer> graph = new ConcurrentGraph<>(new AdjacencyListGraph<>());
+        List<Vertex<Integer>> chain = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            chain.add(vertex);
+            graph.addVertex(vertex);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    int traversals = 0;
+                    while (running.get() || traversals == 0) {
+                        ArrayList<Vertex<Integer>> order = graph.bfs(chain.get(0));
+                        for (int i = 0; i < order.size(); i++) {
+                            assertEquals(i, order.get(i).getData());
+                        }
+                        traversals++;
+                    }
+                    return traversals;
+                }));
+            }
+            for (int round = 0; round < 50; round++) {
+                graph.removeAllEdges();
+                for (int i = 0; i + 1 < size; i++) {
+                    graph.addEdge(chain.get(i), chain.get(i + 1), 1);
+                }
+            }
+            running.set(false);
+            for (Future<Integer> reader : readers) {
+                assertTrue(reader.get() > 0);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(size, graph.bfs(chain.get(0)).size());
+    }
+}
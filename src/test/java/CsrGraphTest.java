@@ -0,0 +1,170 @@
+import com.example.pipegame.model.AdjacencyListGraph;
+import com.example.pipegame.model.AdjacencyMatrixGraph;
+import com.example.pipegame.model.CsrGraph;
+import com.example.pipegame.model.SearchResult;
+import com.example.pipegame.model.Vertex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsrGraphTest {
+
+    private AdjacencyListGraph<Integer> listGraph;
+    private AdjacencyMatrixGraph<Integer> matrixGraph;
+    private ArrayList<Vertex<Integer>> listVertices;
+    private ArrayList<Vertex<Integer>> matrixVertices;
+
+    @BeforeEach
+    public void setUp() {
+        listGraph = new AdjacencyListGraph<>();
+        matrixGraph = new AdjacencyMatrixGraph<>();
+        listVertices = new ArrayList<>();
+        matrixVertices = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Vertex<Integer> listVertex = new Vertex<>(i);
+            Vertex<Integer> matrixVertex = new Vertex<>(i);
+            listGraph.addVertex(listVertex);
+            matrixGraph.addVertex(matrixVertex);
+            listVertices.add(listVertex);
+            matrixVertices.add(matrixVertex);
+        }
+        int[][] edges = {{0, 1, 1}, {0, 2, 3}, {1, 3, 2}, {2, 3, 1}, {2, 4, 1}};
+        for (int[] edge : edges) {
+            listGraph.addEdge(listVertices.get(edge[0]), listVertices.get(edge[1]), edge[2]);
+            matrixGraph.addEdge(matrixVertices.get(edge[0]), matrixVertices.get(edge[1]), edge[2]);
+        }
+    }
+
+    @Test
+    public void testTraversalsStandard() {
+        // Escenario estándar: the snapshot visits vertices in the same order as the source graph
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+
+        assertEquals(listGraph.bfs(listVertices.get(0)), csr.bfs(listVertices.get(0)));
+        assertEquals(listGraph.dfs(listVertices.get(0)), csr.dfs(listVertices.get(0)));
+    }
+
+    @Test
+    public void testFindVertex() {
+        // Escenario de límite: a null payload and equal payloads, the first vertex of a payload is found
+        Vertex<Integer> empty = new Vertex<>(null);
+        Vertex<Integer> duplicate = new Vertex<>(2);
+        listGraph.addVertex(empty);
+        listGraph.addVertex(duplicate);
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+
+        assertSame(listVertices.get(1), csr.findVertex(2));
+        assertSame(empty, csr.findVertex(null));
+        assertNull(csr.findVertex(9));
+    }
+
+    @Test
+    public void testTraversalsFromMatrix() {
+        CsrGraph<Integer> csr = new CsrGraph<>(matrixGraph);
+
+        assertEquals(matrixGraph.bfs(matrixVertices.get(0)), csr.bfs(matrixVertices.get(0)));
+        assertEquals(matrixGraph.dfs(matrixVertices.get(0)), csr.dfs(matrixVertices.get(0)));
+    }
+
+    @Test
+    public void testDijkstraStandard() {
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+
+        ArrayList<Vertex<Integer>> shortestPath = csr.dijkstra(listVertices.get(0), listVertices.get(3));
+
+        assertEquals(Arrays.asList(listVertices.get(3), listVertices.get(1), listVertices.get(0)), shortestPath);
+    }
+
+    @Test
+    public void testDijkstraUnreachable() {
+        // Escenario de límite: a vertex without edges only yields the destination itself
+        Vertex<Integer> isolated = new Vertex<>(6);
+        listGraph.addVertex(isolated);
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+
+        ArrayList<Vertex<Integer>> shortestPath = csr.dijkstra(listVertices.get(0), isolated);
+
+        assertEquals(1, shortestPath.size());
+        assertEquals(isolated, shortestPath.get(0));
+    }
+
+    @Test
+    public void testFloydWarshallMatchesSource() {
+        CsrGraph<Integer> fromList = new CsrGraph<>(listGraph);
+        CsrGraph<Integer> fromMatrix = new CsrGraph<>(matrixGraph);
+
+        assertArrayEquals(listGraph.floydWarshall(), fromList.floydWarshall());
+        assertArrayEquals(matrixGraph.floydWarshall(), fromMatrix.floydWarshall());
+    }
+
+    @Test
+    public void testFloydWarshallSaturates() {
+        // Escenario de límite: a sum past Integer.MAX_VALUE stays unreachable instead of wrapping around
+        AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+        Vertex<Integer> vertex0 = new Vertex<>(0);
+        Vertex<Integer> vertex1 = new Vertex<>(1);
+        Vertex<Integer> vertex2 = new Vertex<>(2);
+        graph.addVertex(vertex0);
+        graph.addVertex(vertex1);
+        graph.addVertex(vertex2);
+        graph.addEdge(vertex0, vertex1, Integer.MAX_VALUE - 1);
+        graph.addEdge(vertex1, vertex2, Integer.MAX_VALUE - 1);
+        CsrGraph<Integer> csr = new CsrGraph<>(graph);
+
+        assertEquals(Integer.MAX_VALUE, csr.floydWarshall()[0][2]);
+        assertArrayEquals(csr.parallelFloydWarshall(2), csr.floydWarshall());
+    }
+
+    @Test
+    public void testMinimumSpanningTrees() {
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+
+        assertEquals(5, csr.kruskalAL().getVertices().size());
+        assertEquals(4, csr.kruskalAL().getAllEdges().size());
+        assertEquals(4, csr.primAL().getAllEdges().size());
+        assertEquals(4, csr.kruskalAM().getAllEdges().size());
+        assertEquals(4, csr.primAM().getAllEdges().size());
+    }
+
+    @Test
+    public void testSnapshotIsImmutable() {
+        // Escenario interesante: the snapshot does not follow later changes and rejects mutations
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+        listGraph.removeAllEdges();
+
+        assertEquals(5, csr.bfs(listVertices.get(0)).size());
+        assertThrows(UnsupportedOperationException.class, () -> csr.addVertex(new Vertex<>(7)));
+        assertThrows(UnsupportedOperationException.class, () -> csr.removeEdge(listVertices.get(0), listVertices.get(1)));
+        assertThrows(UnsupportedOperationException.class, csr::removeAllEdges);
+    }
+
+    @Test
+    public void testSearchResultsMatchSource() {
+        CsrGraph<Integer> csr = new CsrGraph<>(listGraph);
+        SearchResult<Integer> expected = listGraph.dfsSearch(listVertices.get(0));
+        SearchResult<Integer> actual = csr.dfsSearch(listVertices.get(0));
+
+        for (Vertex<Integer> vertex : listVertices) {
+            assertEquals(expected.getDiscoveryTime(vertex), actual.getDiscoveryTime(vertex));
+            assertEquals(expected.getFinishTime(vertex), actual.getFinishTime(vertex));
+            assertEquals(listGraph.bfsSearch(listVertices.get(0)).getDistance(vertex), csr.bfsSearch(listVertices.get(0)).getDistance(vertex));
+        }
+        assertEquals(4, csr.dijkstraSearch(listVertices.get(0), null).getDistance(listVertices.get(4)));
+    }
+
+    @Test
+    public void testBidirectionalSearches() {
+        CsrGraph<Integer> csr = new CsrGraph<>(matrixGraph);
+
+        assertEquals(Arrays.asList(matrixVertices.get(4), matrixVertices.get(2), matrixVertices.get(0)),
+                csr.bidirectionalBfs(matrixVertices.get(0), matrixVertices.get(4)));
+        assertEquals(Arrays.asList(matrixVertices.get(3), matrixVertices.get(1), matrixVertices.get(0)),
+                csr.bidirectionalDijkstra(matrixVertices.get(0), matrixVertices.get(3)));
+        assertEquals(matrixGraph.bidirectionalDijkstra(matrixVertices.get(4), matrixVertices.get(1)),
+                csr.bidirectionalDijkstra(matrixVertices.get(4), matrixVertices.get(1)));
+    }
+}
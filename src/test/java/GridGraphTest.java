@@ -0,0 +1,159 @@
+import com.example.pipegame.model.AdjacencyListGraph;
+import com.example.pipegame.model.Edge;
+import com.example.pipegame.model.GridGraph;
+import com.example.pipegame.model.SearchResult;
+import com.example.pipegame.model.Vertex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GridGraphTest {
+
+    // the same board as an explicit adjacency list, data is the cell number in both graphs
+    private AdjacencyListGraph<Integer> explicitGraph(GridGraph<Integer> grid) {
+        AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+        for (Vertex<Integer> vertex : grid.getVertices()) {
+            graph.addVertex(new Vertex<>(vertex.getData()));
+        }
+        for (Edge<Integer> edge : grid.getAllEdges()) {
+            graph.addEdge(graph.findVertex(edge.getSource().getData()), graph.findVertex(edge.getDestination().getData()), 1);
+        }
+        return graph;
+    }
+
+    private GridGraph<Integer> randomGrid(int rows, int columns, long seed) {
+        GridGraph<Integer> grid = new GridGraph<>(rows, columns, cell -> cell);
+        Random random = new Random(seed);
+        for (int i = 0; i < rows * columns / 4; i++) {
+            grid.setBlocked(random.nextInt(rows), random.nextInt(columns), true);
+        }
+        grid.setBlocked(0, 0, false);
+        return grid;
+    }
+
+    private List<Integer> dataOf(List<Vertex<Integer>> vertices) {
+        List<Integer> data = new ArrayList<>();
+        for (Vertex<Integer> vertex : vertices) {
+            data.add(vertex.getData());
+        }
+        return data;
+    }
+
+    @Test
+    public void testNeighborsStandard() {
+        // Escenario estándar: 3 x 3 board with the center blocked
+        GridGraph<Integer> grid = new GridGraph<>(3, 3, cell -> cell);
+        grid.setBlocked(1, 1, true);
+
+        assertEquals(8, grid.getVertices().size());
+        assertEquals(8, grid.getAllEdges().size());
+        assertNull(grid.vertexAt(1, 1));
+        assertEquals(grid.vertexAt(0, 1), grid.findVertex(1));
+        assertEquals(grid.vertexAt(0, 1).hashCode(), grid.findVertex(1).hashCode());
+        assertNotEquals(grid.vertexAt(0, 1), new GridGraph<Integer>(3, 3, cell -> cell).vertexAt(0, 1));
+        assertNull(grid.findVertex(4));
+        assertEquals(Arrays.asList(0, 1, 3, 2, 6, 5, 7, 8), dataOf(grid.bfs(grid.vertexAt(0, 0))));
+        assertEquals(Arrays.asList(8, 5, 2, 1, 0), dataOf(grid.dijkstra(grid.vertexAt(0, 0), grid.vertexAt(2, 2))));
+    }
+
+    @Test
+    public void testLimits() {
+        // Escenario de límite
+        GridGraph<Integer> grid = new GridGraph<>(2, 2, cell -> cell);
+        Vertex<Integer> corner = grid.vertexAt(0, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> grid.vertexAt(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new GridGraph<Integer>(-1, 2, cell -> cell));
+        assertThrows(UnsupportedOperationException.class, () -> grid.addEdge(corner, grid.vertexAt(0, 1), 1));
+        assertThrows(UnsupportedOperationException.class, () -> grid.addVertex(new Vertex<>(9)));
+
+        grid.removeVertex(corner);
+        assertTrue(grid.isBlocked(0, 0));
+        assertTrue(grid.bfs(corner).isEmpty());
+        assertFalse(grid.isReachable(corner, grid.vertexAt(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> grid.removeVertex(corner));
+        // a vertex of a cell that is open again stands for that cell again
+        grid.setBlocked(0, 0, false);
+        assertEquals(4, grid.bfs(corner).size());
+        assertEquals(0, new GridGraph<Integer>(0, 0, cell -> cell).getVertices().size());
+
+        // a vertex of another graph is not a cell, even when its id matches an open one
+        AdjacencyListGraph<Integer> other = new AdjacencyListGraph<>();
+        Vertex<Integer> foreign = new Vertex<>(0);
+        other.addVertex(foreign);
+        assertTrue(grid.bfs(foreign).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> grid.removeVertex(foreign));
+        assertFalse(grid.isBlocked(0, 0));
+    }
+
+    @Test
+    public void testMatchesExplicitGraph() {
+        // Escenario interesante: every query agrees with the same board stored with edges
+        GridGraph<Integer> grid = randomGrid(20, 30, 24);
+        AdjacencyListGraph<Integer> graph = explicitGraph(grid);
+
+        for (Vertex<Integer> vertex : grid.getVertices()) {
+            Vertex<Integer> explicit = graph.findVertex(vertex.getData());
+            SearchResult<Integer> expected = graph.bfsSearch(explicit);
+            SearchResult<Integer> actual = grid.bfsSearch(vertex);
+            assertEquals(expected.getOrder().size(), actual.getOrder().size());
+            for (Vertex<Integer> reached : actual.getOrder()) {
+                assertEquals(expected.getDistance(graph.findVertex(reached.getData())), actual.getDistance(reached));
+            }
+            assertEquals(dataOf(graph.bfs(explicit)).size(), dataOf(grid.dfs(vertex)).size());
+        }
+        Vertex<Integer> source = grid.vertexAt(0, 0);
+        for (Vertex<Integer> target : grid.getVertices()) {
+            int expected = graph.bfsSearch(graph.findVertex(0)).getDistance(graph.findVertex(target.getData()));
+            assertEquals(expected != Integer.MAX_VALUE, grid.isReachable(source, target));
+            if (expected != Integer.MAX_VALUE) {
+                assertEquals(expected + 1, grid.dijkstra(source, target).size());
+                assertEquals(expected + 1, grid.bidirectionalBfs(source, target).size());
+            }
+        }
+        assertEquals(graph.kruskalAL().getAllEdges().size(), grid.primAL().getAllEdges().size());
+    }
+
+    @Test
+    public void testConcurrentQueries() throws Exception {
+        // Escenario interesante: vertices of the same cell from different threads are interchangeable
+        GridGraph<Integer> grid = randomGrid(40, 40, 7);
+        List<Integer> expected = dataOf(grid.bfs(grid.vertexAt(0, 0)));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Integer>>> orders = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                orders.add(executor.submit(() -> dataOf(grid.bfs(grid.vertexAt(0, 0)))));
+            }
+            for (Future<List<Integer>> order : orders) {
+                assertEquals(expected, order.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Vertex<Integer> target = grid.getVertices().get(grid.getVertices().size() - 1);
+        SearchResult<Integer> result = grid.bfsSearch(grid.vertexAt(0, 0));
+        assertEquals(result.getDistance(target), result.getDistance(grid.findVertex(target.getData())));
+    }
+
+    @Test
+    public void testLargeBoard() {
+        // a 2048 x 2048 board only stores 512 KB of blocked bits
+        GridGraph<Integer> grid = new GridGraph<>(2048, 2048, cell -> cell);
+        for (int row = 0; row < 2047; row++) {
+            grid.setBlocked(row, 1024, true);
+        }
+
+        assertTrue(grid.isReachable(grid.vertexAt(0, 0), grid.vertexAt(0, 2047)));
+        grid.setBlocked(2047, 1024, true);
+        assertFalse(grid.isReachable(grid.vertexAt(0, 0), grid.vertexAt(0, 2047)));
+    }
+}
@@ -0,0 +1,112 @@
+import com.example.pipegame.model.AdjacencyListGraph;
+import com.example.pipegame.model.AdjacencyMatrixGraph;
+import com.example.pipegame.model.ManhattanHeuristic;
+import com.example.pipegame.model.Pipe;
+import com.example.pipegame.model.SearchResult;
+import com.example.pipegame.model.Vertex;
+import com.example.pipegame.model.iGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ManhattanHeuristicTest {
+
+    // size x size board with unit edges between side neighbors, blocked cells get no vertex
+    private static List<Vertex<Pipe>> buildBoard(iGraph<Pipe> graph, int size, boolean[][] blocked) {
+        List<Vertex<Pipe>> cells = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                Vertex<Pipe> vertex = null;
+                if (!blocked[row][col]) {
+                    vertex = new Vertex<>(new Pipe(-1, row, col));
+                    graph.addVertex(vertex);
+                }
+                cells.add(vertex);
+            }
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                Vertex<Pipe> cell = cells.get(row * size + col);
+                if (cell != null && col + 1 < size && cells.get(row * size + col + 1) != null) {
+                    graph.addEdge(cell, cells.get(row * size + col + 1), 1);
+                }
+                if (cell != null && row + 1 < size && cells.get((row + 1) * size + col) != null) {
+                    graph.addEdge(cell, cells.get((row + 1) * size + col), 1);
+                }
+            }
+        }
+        return cells;
+    }
+
+    @Test
+    public void testEstimateStandard() {
+        Vertex<Pipe> from = new Vertex<>(new Pipe(-1, 2, 3));
+        Vertex<Pipe> to = new Vertex<>(new Pipe(-1, 7, 1));
+
+        assertEquals(7, new ManhattanHeuristic().estimate(from, to));
+        assertEquals(21, new ManhattanHeuristic(3).estimate(from, to));
+        assertThrows(IllegalArgumentException.class, () -> new ManhattanHeuristic(-1));
+    }
+
+    @Test
+    public void testAStarExpandsFewerCells() {
+        // Escenario interesante: corner to corner on an open board, A* walks one path while dijkstra floods the board
+        int size = 64;
+        AdjacencyListGraph<Pipe> graph = new AdjacencyListGraph<>();
+        List<Vertex<Pipe>> cells = buildBoard(graph, size, new boolean[size][size]);
+        Vertex<Pipe> source = cells.get(0);
+        Vertex<Pipe> drain = cells.get(size * size - 1);
+
+        SearchResult<Pipe> aStar = graph.aStarSearch(source, drain, new ManhattanHeuristic());
+        SearchResult<Pipe> dijkstra = graph.dijkstraSearch(source, drain);
+
+        assertEquals(2 * (size - 1), aStar.getDistance(drain));
+        assertEquals(dijkstra.pathTo(drain).size(), aStar.pathTo(drain).size());
+        assertTrue(aStar.getOrder().size() * 10 < dijkstra.getOrder().size());
+    }
+
+    @Test
+    public void testAStarAroundWallsEdgeCases() {
+        // Escenario de límite: a wall forces a detour, and a walled-off drain yields only itself
+        int size = 10;
+        boolean[][] blocked = new boolean[size][size];
+        for (int row = 0; row < size - 1; row++) {
+            blocked[row][5] = true;
+        }
+        AdjacencyMatrixGraph<Pipe> graph = new AdjacencyMatrixGraph<>(size * size);
+        List<Vertex<Pipe>> cells = buildBoard(graph, size, blocked);
+
+        ArrayList<Vertex<Pipe>> path = graph.aStar(cells.get(0), cells.get(9), new ManhattanHeuristic());
+        assertEquals(graph.dijkstra(cells.get(0), cells.get(9)).size(), path.size());
+        assertEquals(cells.get(9), path.get(0));
+        assertEquals(cells.get(0), path.get(path.size() - 1));
+
+        graph.removeAllEdges();
+        assertEquals(1, graph.aStar(cells.get(0), cells.get(9), new ManhattanHeuristic()).size());
+        assertThrows(IllegalArgumentException.class, () -> graph.aStar(cells.get(0), cells.get(9), null));
+    }
+
+    @Test
+    public void testInconsistentHeuristicStillOptimal() {
+        // an admissible but inconsistent estimate makes A* reopen a closed vertex
+        AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+        List<Vertex<Integer>> v = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            v.add(new Vertex<>(i));
+            graph.addVertex(v.get(i));
+        }
+        graph.addEdge(v.get(0), v.get(1), 1);
+        graph.addEdge(v.get(0), v.get(2), 4);
+        graph.addEdge(v.get(1), v.get(2), 1);
+        graph.addEdge(v.get(2), v.get(3), 5);
+        graph.addEdge(v.get(3), v.get(4), 1);
+        int[] estimates = {0, 6, 0, 1, 0};
+
+        ArrayList<Vertex<Integer>> path = graph.aStar(v.get(0), v.get(4), (vertex, target) -> estimates[vertex.getData()]);
+
+        assertEquals(List.of(v.get(4), v.get(3), v.get(2), v.get(1), v.get(0)), path);
+    }
+}
@@ -0,0 +1,138 @@
+import com.example.pipegame.model.AdjacencyListGraph;
+import com.example.pipegame.model.Color;
+import com.example.pipegame.model.Edge;
+import com.example.pipegame.model.SearchResult;
+import com.example.pipegame.model.Vertex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShortestPathsTest {
+
+    // random undirected multigraph with weights from 0 to maxWeight, data is the vertex number
+    private static AdjacencyListGraph<Integer> randomGraph(Random random, int size, int edgeCount, int maxWeight) {
+        AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(new Vertex<>(i));
+        }
+        List<Vertex<Integer>> vertices = graph.getVertices();
+        for (int e = 0; e < edgeCount; e++) {
+            graph.addEdge(vertices.get(random.nextInt(size)), vertices.get(random.nextInt(size)), random.nextInt(maxWeight + 1));
+        }
+        return graph;
+    }
+
+    // weight of the lightest edge between two vertices
+    private static int lightest(AdjacencyListGraph<Integer> graph, Vertex<Integer> u, Vertex<Integer> v) {
+        int weight = Integer.MAX_VALUE;
+        for (Edge<Integer> edge : graph.getEdges(u)) {
+            if (edge.getOpposite(u) == v) {
+                weight = Math.min(weight, edge.getWeight());
+            }
+        }
+        return weight;
+    }
+
+    private static List<Vertex<Integer>> chain(AdjacencyListGraph<Integer> graph, int size) {
+        List<Vertex<Integer>> vertices = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            vertices.add(vertex);
+            graph.addVertex(vertex);
+        }
+        return vertices;
+    }
+
+    @Test
+    public void testBucketEnginesMatchAllPairs() {
+        // 0-1 BFS for weights up to 1, Dial's buckets up to 64, checked against Floyd-Warshall
+        Random random = new Random(3);
+        for (int maxWeight : new int[]{1, 2, 9, 64}) {
+            AdjacencyListGraph<Integer> graph = randomGraph(random, 300, 900, maxWeight);
+            int[][] expected = graph.floydWarshall();
+            Vertex<Integer> source = graph.getVertices().get(0);
+            SearchResult<Integer> result = graph.dijkstraSearch(source, null);
+
+            for (Vertex<Integer> vertex : graph.getVertices()) {
+                assertEquals(expected[0][vertex.getId()], result.getDistance(vertex));
+                // the predecessors must describe a shortest path too
+                if (result.isReached(vertex)) {
+                    List<Vertex<Integer>> path = result.pathTo(vertex);
+                    int length = 0;
+                    for (int i = 0; i + 1 < path.size(); i++) {
+                        length += lightest(graph, path.get(i), path.get(i + 1));
+                    }
+                    assertEquals(result.getDistance(vertex), length);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEarlyExitEdgeCases() {
+        // Escenario de límite: a zero weight cycle and a stop at the destination, for both bucket engines
+        for (int extraWeight : new int[]{1, 3}) {
+            AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+            List<Vertex<Integer>> vertices = chain(graph, 4);
+            graph.addEdge(vertices.get(0), vertices.get(1), 0);
+            graph.addEdge(vertices.get(1), vertices.get(2), 0);
+            graph.addEdge(vertices.get(2), vertices.get(0), 0);
+            graph.addEdge(vertices.get(2), vertices.get(3), extraWeight);
+
+            SearchResult<Integer> result = graph.dijkstraSearch(vertices.get(0), vertices.get(2));
+
+            assertEquals(0, result.getDistance(vertices.get(2)));
+            assertEquals(Color.BLACK, result.getColor(vertices.get(2)));
+            assertNotEquals(Color.BLACK, result.getColor(vertices.get(3)));
+        }
+    }
+
+    @Test
+    public void testAlgorithmSelection() {
+        // Escenario interesante: negative and large weights fall back to the heap, which still gives exact distances
+        AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+        List<Vertex<Integer>> vertices = chain(graph, 3);
+        Vertex<Integer> a = vertices.get(0);
+        Vertex<Integer> b = vertices.get(1);
+        Vertex<Integer> c = vertices.get(2);
+        graph.addEdge(a, b, 1);
+        graph.addEdge(b, c, 1);
+        assertEquals(2, graph.dijkstraSearch(a, c).getDistance(c));
+
+        graph.addEdge(a, c, 1000);
+        assertEquals(2, graph.dijkstraSearch(a, c).getDistance(c));
+
+        graph.removeAllEdges();
+        graph.addEdge(a, c, 5);
+        assertEquals(5, graph.dijkstraSearch(a, c).getDistance(c));
+    }
+
+    @Test
+    public void testWeightChangedAfterAddEdge() {
+        // Escenario interesante: setWeight moves an edge out of the range the graph saw in addEdge,
+        // the bucket engines notice it and the heap gives the exact distance
+        AdjacencyListGraph<Integer> graph = new AdjacencyListGraph<>();
+        List<Vertex<Integer>> vertices = chain(graph, 4);
+        Vertex<Integer> a = vertices.get(0);
+        Vertex<Integer> b = vertices.get(1);
+        Vertex<Integer> c = vertices.get(2);
+        Vertex<Integer> d = vertices.get(3);
+        graph.addEdge(a, c, 1);
+        graph.addEdge(a, b, 1);
+        graph.addEdge(b, d, 1);
+        graph.addEdge(d, c, 1);
+
+        graph.findEdge(a, c).setWeight(5);
+        assertEquals(3, graph.dijkstraSearch(a, c).getDistance(c));
+        assertEquals(List.of(c, d, b, a), graph.dijkstra(a, c));
+
+        // same through Dial's buckets, sized for the weights up to 2 added so far
+        graph.addEdge(a, d, 2);
+        graph.findEdge(d, c).setWeight(70);
+        assertEquals(5, graph.dijkstraSearch(a, c).getDistance(c));
+    }
+}
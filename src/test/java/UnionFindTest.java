@@ -0,0 +1,45 @@
+import com.example.pipegame.model.UnionFind;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnionFindTest {
+
+    @Test
+    public void testUnionStandard() {
+        UnionFind unionFind = new UnionFind(5);
+
+        assertTrue(unionFind.union(0, 1));
+        assertTrue(unionFind.union(3, 4));
+        assertFalse(unionFind.union(1, 0));
+
+        assertTrue(unionFind.connected(0, 1));
+        assertFalse(unionFind.connected(1, 3));
+        assertEquals(3, unionFind.componentCount());
+        assertEquals(2, unionFind.componentSize(4));
+    }
+
+    @Test
+    public void testUnionEdgeCases() {
+        // Escenario de límite: no elements, and elements outside the range
+        UnionFind empty = new UnionFind(0);
+        assertEquals(0, empty.componentCount());
+        assertThrows(IllegalArgumentException.class, () -> empty.find(0));
+        assertThrows(IllegalArgumentException.class, () -> new UnionFind(-1));
+        assertThrows(IllegalArgumentException.class, () -> new UnionFind(3).union(1, 3));
+    }
+
+    @Test
+    public void testLongChainInteresting() {
+        // Escenario interesante: a chain of a million unions and finds without recursion
+        int size = 1_000_000;
+        UnionFind unionFind = new UnionFind(size);
+        for (int i = 1; i < size; i++) {
+            assertTrue(unionFind.union(i - 1, i));
+        }
+
+        assertEquals(1, unionFind.componentCount());
+        assertEquals(size, unionFind.componentSize(0));
+        assertEquals(unionFind.find(0), unionFind.find(size - 1));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.pipegame.model;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// compares the scalar and the SIMD min-plus row kernels on a dense distance matrix; tagged out of the regular
+// test run, run it with mvn test -Pbenchmark [-Dbenchmark.vertices=1024]
+@Tag("benchmark")
+public class FloydWarshallBenchmark {
+
+    @Test
+    public void compareKernels() {
+        int size = Integer.getInteger("benchmark.vertices", 1024);
+        int[][] input = randomDistances(size, new Random(42));
+        if (!FloydWarshall.VECTORIZED) {
+            System.out.println("jdk.incubator.vector is not available, only the scalar kernel can run.");
+        }
+        for (int round = 0; round < 5; round++) {
+            long scalar = time(input, false);
+            long vector = FloydWarshall.VECTORIZED ? time(input, true) : scalar;
+            System.out.printf("round %d: scalar %d ms, vector %d ms, speedup %.2fx%n", round, scalar, vector, (double) scalar / vector);
+        }
+    }
+
+    private static long time(int[][] input, boolean vectorized) {
+        int[][] dist = new int[input.length][];
+        for (int i = 0; i < input.length; i++) {
+            dist[i] = Arrays.copyOf(input[i], input.length);
+        }
+        long start = System.nanoTime();
+        for (int k = 0; k < dist.length; k++) {
+            for (int[] rowI : dist) {
+                if (rowI[k] != FloydWarshall.INFINITY) {
+                    if (vectorized) {
+                        VectorMinPlus.relaxRow(rowI, dist[k], rowI[k], 0, dist.length);
+                    } else {
+                        FloydWarshall.scalarRelaxRow(rowI, dist[k], rowI[k], 0, dist.length);
+                    }
+                }
+            }
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static int[][] randomDistances(int size, Random random) {
+        int[][] dist = FloydWarshall.newDistanceMatrix(size);
+        for (int e = 0; e < size * 8; e++) {
+            int i = random.nextInt(size);
+            int j = random.nextInt(size);
+            if (i != j) {
+                dist[i][j] = 1 + random.nextInt(100);
+            }
+        }
+        return dist;
+    }
+}
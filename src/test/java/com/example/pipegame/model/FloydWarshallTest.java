@@ -0,0 +1,72 @@
+package com.example.pipegame.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FloydWarshallTest {
+
+    private static final int INF = FloydWarshall.INFINITY;
+
+    @Test
+    public void testScalarRelaxRowSaturates() {
+        int[] rowI = {INF, INF, 5, INF};
+        int[] rowK = {INF, Integer.MAX_VALUE - 1, 1, -3};
+
+        FloydWarshall.scalarRelaxRow(rowI, rowK, 10, 0, 4);
+
+        // an unreachable entry stays unreachable and an overflowing sum saturates instead of wrapping
+        assertArrayEquals(new int[]{INF, INF, 5, 7}, rowI);
+    }
+
+    @Test
+    public void testVectorKernelMatchesScalar() {
+        // only when jdk.incubator.vector is resolved and the scalar kernel is not forced, the fallback is tested below
+        assumeTrue(FloydWarshall.VECTORIZED);
+        Random random = new Random(1);
+        int[] specials = {INF, Integer.MAX_VALUE - 1, Integer.MIN_VALUE + 1, 0, -1};
+        for (int round = 0; round < 200; round++) {
+            int length = 1 + random.nextInt(80);
+            int[] rowK = new int[length];
+            int[] rowI = new int[length];
+            for (int j = 0; j < length; j++) {
+                rowK[j] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextInt(2000) - 1000;
+                rowI[j] = random.nextInt(4) == 0 ? INF : random.nextInt(2000) - 1000;
+            }
+            int distIK = random.nextInt(3) == 0 ? specials[1 + random.nextInt(specials.length - 1)] : random.nextInt(2000) - 1000;
+            int[] expected = Arrays.copyOf(rowI, length);
+
+            FloydWarshall.scalarRelaxRow(expected, rowK, distIK, 0, length);
+            VectorMinPlus.relaxRow(rowI, rowK, distIK, 0, length);
+
+            assertArrayEquals(expected, rowI);
+        }
+    }
+
+    @Test
+    public void testBlockedMatchesTripleLoop() {
+        Random random = new Random(2);
+        int size = 2 * FloydWarshall.BLOCK_SIZE + 7;
+        int[][] dist = FloydWarshall.newDistanceMatrix(size);
+        for (int e = 0; e < size * 4; e++) {
+            int i = random.nextInt(size);
+            int j = random.nextInt(size);
+            if (i != j) {
+                dist[i][j] = 1 + random.nextInt(50);
+            }
+        }
+        int[][] expected = new int[size][];
+        for (int i = 0; i < size; i++) {
+            expected[i] = Arrays.copyOf(dist[i], size);
+        }
+
+        FloydWarshall.relax(expected, 0, size, 0, size, 0, size);
+        FloydWarshall.blocked(dist);
+
+        assertArrayEquals(expected, dist);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.pipegame.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IndexedDaryHeapTest {
+
+    @Test
+    public void testPollOrderStandard() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(5);
+        heap.insertOrDecrease(0, 7);
+        heap.insertOrDecrease(1, 3);
+        heap.insertOrDecrease(2, 9);
+        heap.insertOrDecrease(3, 3);
+
+        // equal keys come out by id
+        assertEquals(1, heap.poll());
+        assertEquals(3, heap.poll());
+        assertEquals(0, heap.poll());
+        assertEquals(2, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    public void testDecreaseKeyEdgeCases() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(3);
+        heap.insertOrDecrease(0, 5);
+        heap.insertOrDecrease(1, 4);
+        heap.insertOrDecrease(0, 1);
+        // a larger key never raises a queued entry
+        heap.insertOrDecrease(0, 8);
+
+        assertTrue(heap.contains(0));
+        assertEquals(1, heap.key(0));
+        assertEquals(0, heap.poll());
+        assertFalse(heap.contains(0));
+        assertEquals(1, heap.poll());
+        assertThrows(IllegalStateException.class, heap::poll);
+    }
+
+    @Test
+    public void testRandomOperationsInteresting() {
+        // Escenario interesante: the heap agrees with a linear scan for the minimum after every operation
+        Random random = new Random(11);
+        int capacity = 300;
+        IndexedDaryHeap heap = new IndexedDaryHeap(capacity);
+        int[] keys = new int[capacity];
+        boolean[] queued = new boolean[capacity];
+        for (int step = 0; step < 5000; step++) {
+            int id = random.nextInt(capacity);
+            if (random.nextInt(3) > 0) {
+                int key = random.nextInt(1000);
+                if (!queued[id] || key < keys[id]) {
+                    keys[id] = key;
+                }
+                queued[id] = true;
+                heap.insertOrDecrease(id, key);
+            } else if (!heap.isEmpty()) {
+                int expected = -1;
+                for (int i = 0; i < capacity; i++) {
+                    if (queued[i] && (expected == -1 || keys[i] < keys[expected])) {
+                        expected = i;
+                    }
+                }
+                assertEquals(expected, heap.poll());
+                queued[expected] = false;
+            }
+        }
+    }
+}